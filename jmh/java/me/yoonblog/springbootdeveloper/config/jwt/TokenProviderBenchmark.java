@@ -0,0 +1,91 @@
+package me.yoonblog.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+//TokenProvider 처리량 측정 -> ./gradlew jmh 로 실행
+//legacy : 호출마다 파서를 새로 만들고 같은 토큰을 두 번 복호화하던 이전 방식(검증 + 인증 정보 생성)
+//prebuilt : 미리 만든 파서로 한 번만 복호화하는 현재 방식(검증 + 인증 정보 생성)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("ajufresh@gmail.com");
+        jwtProperties.setSecretKey("study-springboot");
+        tokenProvider = new TokenProvider(jwtProperties, new ExpiringCache<>(1, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry());
+        user = User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build();
+        token = tokenProvider.generateToken(user, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(user, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return tokenProvider.validToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication legacy() {
+        boolean valid;
+        try {
+            Jwts.parser().setSigningKey(jwtProperties.getSecretKey()).parseClaimsJws(token);
+            valid = true;
+        } catch (Exception e) {
+            valid = false;
+        }
+        if (!valid) {
+            return null;
+        }
+        Claims claims = Jwts.parser()
+                .setSigningKey(jwtProperties.getSecretKey())
+                .parseClaimsJws(token)
+                .getBody();
+        return tokenProvider.getAuthentication(claims, token);
+    }
+
+    @Benchmark
+    public Authentication prebuilt() {
+        ParsedToken parsed = tokenProvider.parse(token);
+        return parsed.isValid() ? tokenProvider.getAuthentication(parsed.getClaims(), token) : null;
+    }
+}
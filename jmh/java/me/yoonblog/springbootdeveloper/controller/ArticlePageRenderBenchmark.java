@@ -0,0 +1,146 @@
+package me.yoonblog.springbootdeveloper.controller;
+
+import me.yoonblog.springbootdeveloper.domain.Article;
+import me.yoonblog.springbootdeveloper.dto.ArticleListViewResponse;
+import me.yoonblog.springbootdeveloper.dto.ArticleSummary;
+import me.yoonblog.springbootdeveloper.dto.ArticleViewResponse;
+import me.yoonblog.springbootdeveloper.dto.RenderedPage;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.linkbuilder.StandardLinkBuilder;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+//글/글 목록 페이지 응답 비용 측정
+//render* : 요청마다 템플릿 실행(캐시 적용 전), cached* : 버전이 같은 렌더링 결과를 캐시에서 꺼냄(ArticlePageRenderer 적용 후)
+//실제 템플릿(templates/*.html)을 사용, 파싱한 템플릿은 운영 설정처럼 캐시
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticlePageRenderBenchmark {
+    private static final String VERSION = "1-1700000000000";
+
+    private SpringTemplateEngine templateEngine;
+    private Context articleContext;
+    private Context articleListContext;
+    private final ExpiringCache<Long, RenderedPage> articlePageCache =
+            new ExpiringCache<>(1_000, Duration.ofMinutes(30));
+    private final ExpiringCache<String, RenderedPage> articleListPageCache =
+            new ExpiringCache<>(1_000, Duration.ofMinutes(30));
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        //서블릿 요청 없이 @{/...} 링크를 만들 수 있도록 컨텍스트 경로를 빈 문자열로 고정
+        templateEngine.setLinkBuilder(new StandardLinkBuilder() {
+            @Override
+            protected String computeContextPath(IExpressionContext context, String base,
+                                                Map<String, Object> parameters) {
+                return "";
+            }
+        });
+
+        Article article = Article.builder()
+                .author("user@gmail.com")
+                .title("스프링 부트 입문")
+                .content("JPA와 하이버네이트로 블로그 만들기 ".repeat(30))
+                .build();
+        articleContext = new Context(Locale.KOREA, Map.of("article", new ArticleViewResponse(article, 1_000L)));
+
+        List<ArticleListViewResponse> items = IntStream.rangeClosed(1, 20)
+                .mapToObj(i -> new ArticleListViewResponse(new Summary((long) i, "제목 " + i,
+                        "user@gmail.com", LocalDateTime.of(2024, 1, 1, 0, 0), "내용 ".repeat(30), 0L)))
+                .toList();
+        articleListContext = new Context(Locale.KOREA, Map.of("articles", items, "nextCursor", 20L, "limit", 20));
+
+        articlePageCache.put(1L, new RenderedPage(VERSION, renderArticle()));
+        articleListPageCache.put("0-20", new RenderedPage(VERSION, renderArticleList()));
+    }
+
+    @Benchmark
+    public byte[] renderArticle() {
+        return templateEngine.process("article", articleContext).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] cachedArticle() {
+        RenderedPage page = articlePageCache.get(1L);
+        return page.getVersion().equals(VERSION) ? ArticlePageRenderer.fillViewCount(page.getBody(), 1_234L) : null;
+    }
+
+    @Benchmark
+    public byte[] renderArticleList() {
+        return templateEngine.process("articleList", articleListContext).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] cachedArticleList() {
+        RenderedPage page = articleListPageCache.get("0-20");
+        return page.getVersion().equals(VERSION) ? page.getBody() : null;
+    }
+
+    private record Summary(Long id, String title, String author, LocalDateTime createdAt, String excerpt,
+                           long version) implements ArticleSummary {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getAuthor() {
+            return author;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public String getExcerpt() {
+            return excerpt;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import me.yoonblog.springbootdeveloper.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+//글 목록 응답(/api/articles) 한 페이지의 DTO 변환 + JSON 직렬화 비용 측정
+//fullEntity : 프로젝션 적용 전 -> 본문 전체를 담은 Article로 ArticleResponse를 만듦
+//projection : 프로젝션 적용 후 -> 본문 앞부분(excerpt)만 담은 ArticleSummary로 ArticleListResponse를 만듦
+//응답 크기와 할당량은 -prof gc로 함께 확인, 엔티티를 만들지 않아 줄어드는 조회/스냅샷 비용은 DB가 필요해 포함하지 않음
+//본문은 고정 시드로 만든 문자열 -> 실행할 때마다 같은 입력
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleListSerializationBenchmark {
+    @Param({"10", "100"})
+    private int articleCount; //한 페이지의 글 수(기본값, 최대값)
+
+    @Param({"500", "5000"})
+    private int contentLength;
+
+    //스프링 부트 기본 설정처럼 날짜를 ISO 문자열로 직렬화
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private List<Article> articles;
+    private List<ArticleSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<String> contents = IntStream.range(0, articleCount)
+                .mapToObj(i -> randomText(random))
+                .toList();
+
+        articles = IntStream.range(0, articleCount)
+                .mapToObj(i -> Article.builder()
+                        .author("user" + i + "@gmail.com")
+                        .title("제목 " + i)
+                        .content(contents.get(i))
+                        .build())
+                .toList();
+        summaries = IntStream.range(0, articleCount)
+                .mapToObj(i -> (ArticleSummary) new Summary((long) i, "제목 " + i, "user" + i + "@gmail.com",
+                        createdAt, contents.get(i).substring(0, ArticleSummary.EXCERPT_LENGTH), 0L))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] fullEntity() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(articles.stream().map(ArticleResponse::new).toList());
+    }
+
+    @Benchmark
+    public byte[] projection() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaries.stream().map(ArticleListResponse::new).toList());
+    }
+
+    private String randomText(Random random) {
+        StringBuilder builder = new StringBuilder(contentLength);
+        for (int i = 0; i < contentLength; i++) {
+            builder.append((char) ('가' + random.nextInt(100)));
+        }
+        return builder.toString();
+    }
+
+    private record Summary(Long id, String title, String author, LocalDateTime createdAt, String excerpt,
+                           long version) implements ArticleSummary {
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getAuthor() {
+            return author;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public String getExcerpt() {
+            return excerpt;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
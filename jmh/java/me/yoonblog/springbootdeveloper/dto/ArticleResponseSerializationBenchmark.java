@@ -0,0 +1,64 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.yoonblog.springbootdeveloper.domain.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+//ArticleResponse 목록의 JSON 직렬화 비용 측정
+//본문은 고정 시드로 만든 500자 문자열 -> 실행할 때마다 같은 입력
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleResponseSerializationBenchmark {
+    private static final int CONTENT_LENGTH = 500;
+
+    @Param({"10", "1000", "100000"})
+    private int articleCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<ArticleResponse> articles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        articles = IntStream.range(0, articleCount)
+                .mapToObj(i -> new ArticleResponse(Article.builder()
+                        .author("user" + i + "@gmail.com")
+                        .title("제목 " + i)
+                        .content(randomText(random))
+                        .build()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(articles);
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder builder = new StringBuilder(CONTENT_LENGTH);
+        for (int i = 0; i < CONTENT_LENGTH; i++) {
+            builder.append((char) ('가' + random.nextInt(100)));
+        }
+        return builder.toString();
+    }
+}
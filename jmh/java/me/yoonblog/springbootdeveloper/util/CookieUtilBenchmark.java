@@ -0,0 +1,71 @@
+package me.yoonblog.springbootdeveloper.util;
+
+import jakarta.servlet.http.Cookie;
+import me.yoonblog.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestCookieCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//OAuth2 인증 요청 쿠키 직렬화/역직렬화 비용 측정
+//구글 로그인 시 실제로 쿠키에 저장되는 것과 같은 형태의 요청을 사용
+//serialize/deserialize : 자바 직렬화 + Base64, encode/decode : 서명된 JSON(OAuth2AuthorizationRequestCookieCodec)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CookieUtilBenchmark {
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private Cookie cookie;
+    private OAuth2AuthorizationRequestCookieCodec codec;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("1234567890-abcdefghijklmnopqrstuvwxyz012345.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("Zp3Jw8q1XkVb7mT2yRc0LsN4dHfGaE6uQiOo9WlBz5A=")
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+        cookie = new Cookie("oauth2_auth_request", CookieUtil.serialize(authorizationRequest));
+        codec = new OAuth2AuthorizationRequestCookieCodec("study-springboot", Duration.ofHours(5));
+        encoded = codec.encode(authorizationRequest);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return CookieUtil.serialize(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest deserialize() {
+        return CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest decode() {
+        return codec.decode(encoded);
+    }
+}
@@ -3,8 +3,10 @@ package me.yoonblog.springbootdeveloper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing //created_at, updated_at을 자동으로 업데이트
+@EnableScheduling //만료된 리프레시 토큰 정리 등 주기 작업 실행
 @SpringBootApplication
 public class SpringBootDeveloperApplication {
     public static void main(String[] args) {
@@ -0,0 +1,18 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+//글 내보내기(/api/articles/export) 설정
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("article-export")
+public class ArticleExportProperties {
+    //응답 전체를 쓰는 데 허용하는 시간 -> 비동기 요청 기본 제한 시간(톰캣 30초) 대신 사용
+    private Duration timeout = Duration.ofHours(1);
+}
@@ -0,0 +1,25 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+//요청마다 비동기 처리 제한 시간을 바꾸는 인터셉터
+//핸들러가 TIMEOUT_ATTRIBUTE 요청 속성에 제한 시간(Duration)을 넣으면 기본 제한 시간 대신 사용
+//StreamingResponseBody처럼 제한 시간을 직접 지정할 수 없는 반환 타입에 사용
+public class AsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+    public static final String TIMEOUT_ATTRIBUTE = AsyncTimeoutInterceptor.class.getName() + ".timeout";
+
+    //비동기 처리를 시작하기 직전에 호출됨 -> 여기서 바꾼 제한 시간이 서블릿 AsyncContext에 적용됨
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timeout instanceof Duration duration && request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(duration.toMillis());
+        }
+    }
+}
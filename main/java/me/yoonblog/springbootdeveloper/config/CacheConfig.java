@@ -0,0 +1,104 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import me.yoonblog.springbootdeveloper.domain.Article;
+import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.dto.RenderedPage;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@RequiredArgsConstructor
+@Configuration
+public class CacheConfig {
+    private final CacheProperties cacheProperties;
+
+    //글 상세 조회용 캐시 -> key : 글 ID
+    @Bean
+    public ExpiringCache<Long, Article> articleCache() {
+        CacheProperties.Spec spec = cacheProperties.getArticle();
+        return new ExpiringCache<>(spec.getMaxSize(), spec.getTtl());
+    }
+
+    //검증된 액세스 토큰의 사용자 정보(이름, 권한) 캐시 -> key : 토큰의 SHA-256 해시
+    @Bean
+    public ExpiringCache<String, UserDetails> tokenCache() {
+        CacheProperties.Spec spec = cacheProperties.getToken();
+        return new ExpiringCache<>(spec.getMaxSize(), spec.getTtl());
+    }
+
+    //유저별 현재 리프레시 토큰 해시 캐시 -> key : 유저 ID
+    @Bean
+    public ExpiringCache<Long, String> refreshTokenCache() {
+        CacheProperties.Spec spec = cacheProperties.getRefreshToken();
+        return new ExpiringCache<>(spec.getMaxSize(), spec.getTtl());
+    }
+
+    //유저 캐시 -> key : 유저 ID
+    @Bean
+    public ExpiringCache<Long, User> userByIdCache() {
+        CacheProperties.Spec spec = cacheProperties.getUser();
+        return new ExpiringCache<>(spec.getMaxSize(), spec.getTtl());
+    }
+
+    //유저 캐시 -> key : 이메일
+    @Bean
+    public ExpiringCache<String, User> userByEmailCache() {
+        CacheProperties.Spec spec = cacheProperties.getUser();
+        return new ExpiringCache<>(spec.getMaxSize(), spec.getTtl());
+    }
+
+    //렌더링한 글 페이지 캐시 -> key : 글 ID
+    @Bean
+    public ExpiringCache<Long, RenderedPage> articlePageCache() {
+        CacheProperties.Spec spec = cacheProperties.getPage();
+        return new ExpiringCache<>(spec.getMaxSize(), spec.getTtl());
+    }
+
+    //렌더링한 글 목록 페이지 캐시 -> key : "after-limit"
+    @Bean
+    public ExpiringCache<String, RenderedPage> articleListPageCache() {
+        CacheProperties.Spec spec = cacheProperties.getPage();
+        return new ExpiringCache<>(spec.getMaxSize(), spec.getTtl());
+    }
+
+    //캐시별 적중/미스/제거 횟수와 현재 크기를 메트릭으로 등록
+    @Bean
+    public MeterBinder cacheMetrics(ExpiringCache<Long, Article> articleCache,
+                                    ExpiringCache<String, UserDetails> tokenCache,
+                                    ExpiringCache<Long, String> refreshTokenCache,
+                                    ExpiringCache<Long, User> userByIdCache,
+                                    ExpiringCache<String, User> userByEmailCache,
+                                    ExpiringCache<Long, RenderedPage> articlePageCache,
+                                    ExpiringCache<String, RenderedPage> articleListPageCache) {
+        return registry -> {
+            bindCacheMetrics(registry, "article", articleCache);
+            bindCacheMetrics(registry, "token", tokenCache);
+            bindCacheMetrics(registry, "refresh-token", refreshTokenCache);
+            bindCacheMetrics(registry, "user-by-id", userByIdCache);
+            bindCacheMetrics(registry, "user-by-email", userByEmailCache);
+            bindCacheMetrics(registry, "article-page", articlePageCache);
+            bindCacheMetrics(registry, "article-list-page", articleListPageCache);
+        };
+    }
+
+    private static void bindCacheMetrics(MeterRegistry registry, String name, ExpiringCache<?, ?> cache) {
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::hitCount)
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::missCount)
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, ExpiringCache::evictionCount)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", cache, ExpiringCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+//인메모리 캐시별 최대 개수와 TTL 설정
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("cache")
+public class CacheProperties {
+    private Spec article = new Spec(1_000, Duration.ofMinutes(10));
+    private Spec token = new Spec(10_000, Duration.ofMinutes(5));
+    //다른 인스턴스에서 교체된 토큰은 TTL 동안 이전 값으로 보일 수 있으므로 짧게 유지
+    private Spec refreshToken = new Spec(10_000, Duration.ofMinutes(1));
+    //유저 ID, 이메일로 조회한 유저
+    private Spec user = new Spec(10_000, Duration.ofMinutes(10));
+    //렌더링한 글/글 목록 페이지 -> 버전이 다르면 다시 렌더링하므로 TTL은 메모리 회수 용도
+    private Spec page = new Spec(1_000, Duration.ofMinutes(30));
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+        private int maxSize;
+        private Duration ttl;
+    }
+}
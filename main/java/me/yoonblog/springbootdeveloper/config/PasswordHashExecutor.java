@@ -0,0 +1,34 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+//BCrypt 해시 전용 스레드 풀을 감싼 객체
+//Executor를 구현하지 않음 -> Executor 타입 빈이 있으면 스프링 부트가 applicationTaskExecutor를 만들지 않고
+//MVC 비동기 처리(StreamingResponseBody 등)가 제한 없는 SimpleAsyncTaskExecutor로 바뀜
+public class PasswordHashExecutor {
+    private final ThreadPoolExecutor pool;
+
+    public PasswordHashExecutor(ThreadPoolExecutor pool) {
+        this.pool = pool;
+    }
+
+    //풀에서 task를 실행, 대기열이 가득 차면 바로 RejectedExecutionException을 던짐
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, pool);
+    }
+
+    //대기열 길이, 실행 중인 작업 수, 완료 수 등을 메트릭으로 등록 -> executor.*{name=password-hash}
+    void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(pool, "password-hash", Tags.empty()).bindTo(registry);
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
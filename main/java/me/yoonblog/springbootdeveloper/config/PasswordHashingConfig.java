@@ -0,0 +1,41 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Configuration
+public class PasswordHashingConfig {
+    private final PasswordHashingProperties properties;
+
+    //패스워드 인코더로 사용할 빈 등록 -> 요청마다 만들지 않고 공유(스레드 안전)
+    @Bean
+    public BCryptPasswordEncoder bCryptPasswordEncoder() {
+        return new BCryptPasswordEncoder(properties.getStrength());
+    }
+
+    //BCrypt 해시 전용 스레드 풀 -> 톰캣 요청 스레드에서 해시하지 않음
+    //대기열이 가득 차면 RejectedExecutionException(AbortPolicy) -> 회원가입 요청을 503으로 거절
+    //ThreadPoolExecutor를 그대로 빈으로 등록하지 않고 PasswordHashExecutor로 감쌈(Executor 빈이 아님)
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashExecutor passwordHashExecutor() {
+        return new PasswordHashExecutor(new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    @Bean
+    public MeterBinder passwordHashExecutorMetrics(PasswordHashExecutor passwordHashExecutor) {
+        return passwordHashExecutor::bindTo;
+    }
+}
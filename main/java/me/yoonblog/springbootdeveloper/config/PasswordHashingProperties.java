@@ -0,0 +1,20 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+//비밀번호 해시(BCrypt) 설정
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("password-hashing")
+public class PasswordHashingProperties {
+    //BCrypt 비용 계수 -> 1 올릴 때마다 해시 시간이 두 배
+    private int strength = 10;
+    //해시 전용 스레드 수 -> 회원가입이 몰려도 이 수만큼의 CPU만 사용
+    private int threads = 2;
+    //대기열 크기 -> 가득 차면 회원가입 요청을 503으로 거절
+    private int queueCapacity = 50;
+}
@@ -0,0 +1,94 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.yoonblog.springbootdeveloper.util.TokenBucketLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//규칙에 맞는 요청을 사용자/IP별 토큰 버킷으로 제한, 초과하면 429와 Retry-After(초)로 응답
+//TokenAuthenticationFilter 다음에 실행 -> 항상 IP 기준으로 제한하고, 액세스 토큰이 있으면 사용자 기준으로도 제한
+//사용자 버킷만 쓰면 토큰을 여러 개 발급받은 클라이언트가 한 IP에서 제한을 우회할 수 있음
+//프록시 뒤에서 실행하면 server.forward-headers-strategy를 설정해야 실제 클라이언트 IP로 구분됨
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final List<LimitedRule> rules = new ArrayList<>();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            List<RequestMatcher> matchers = new ArrayList<>();
+            for (String path : rule.getPaths()) {
+                if (rule.getMethods().isEmpty()) {
+                    matchers.add(new AntPathRequestMatcher(path));
+                }
+                for (String method : rule.getMethods()) {
+                    matchers.add(new AntPathRequestMatcher(path, method));
+                }
+            }
+            rules.add(new LimitedRule(new OrRequestMatcher(matchers),
+                    new TokenBucketLimiter(rule.getCapacity(), rule.getRefillPeriod(), properties.getMaxBuckets()),
+                    meterRegistry.counter("rate.limit.rejected", "rule", rule.getName())));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        for (LimitedRule rule : rules) {
+            if (!rule.matcher().matches(request)) {
+                continue;
+            }
+            //IP 버킷이 거절하면 사용자 버킷은 차감하지 않음
+            long waitNanos = rule.limiter().tryAcquire("ip:" + request.getRemoteAddr());
+            String user = authenticatedUser();
+            if (waitNanos == 0 && user != null) {
+                waitNanos = rule.limiter().tryAcquire("user:" + user);
+            }
+            if (waitNanos > 0) {
+                rule.rejected().increment();
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+                return;
+            }
+            break;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    //로그인한 사용자면 사용자 이름, 아니면 null
+    private static String authenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return null;
+    }
+
+    private record LimitedRule(RequestMatcher matcher, TokenBucketLimiter limiter, Counter rejected) {
+    }
+}
@@ -0,0 +1,37 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+//요청 제한 설정 -> 규칙마다 IP별 토큰 버킷을 적용하고, 로그인한 사용자는 사용자별 토큰 버킷도 적용
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    //규칙별 최대 버킷(사용자/IP) 수 -> 넘으면 가득 찬 버킷부터 정리
+    private int maxBuckets = 100_000;
+    //위에서부터 처음 일치하는 규칙 하나만 적용
+    private List<Rule> rules = new ArrayList<>();
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String name;
+        private List<String> paths = new ArrayList<>(); //Ant 패턴
+        private List<String> methods = new ArrayList<>(); //비어 있으면 모든 메서드
+        private int capacity; //연속으로 허용하는 요청 수
+        private Duration refillPeriod; //capacity개가 다시 채워지는 시간
+    }
+}
@@ -1,13 +1,19 @@
 package me.yoonblog.springbootdeveloper.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import me.yoonblog.springbootdeveloper.config.jwt.ParsedToken;
 import me.yoonblog.springbootdeveloper.config.jwt.TokenProvider;
-import org.springframework.security.core.Authentication;
+import me.yoonblog.springbootdeveloper.util.DigestUtil;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import me.yoonblog.springbootdeveloper.util.MetricsUtil;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -15,6 +21,10 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
     private final TokenProvider tokenProvider;
+    //검증이 끝난 토큰의 사용자 정보(이름, 권한) 캐시 -> key : 토큰의 SHA-256 해시, 토큰 만료 시각(exp) 이후에는 사용하지 않음
+    //인증 객체는 변경 가능하므로 캐시하지 않고 요청마다 새로 만듦
+    private final ExpiringCache<String, UserDetails> tokenCache;
+    private final MeterRegistry meterRegistry;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
 
@@ -27,14 +37,45 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         //가져온 값에서 접두사 제거
         String token = getAccessToken(authorizationHeader);
         //가져온 토큰이 유효한지 확인하고 유효하다면 인증 정보 설정
-        if (tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+        //인증 처리 시간은 결과별로 기록 -> auth.filter{outcome=none|cached|valid|expired|...}
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = authenticate(token);
+        sample.stop(meterRegistry.timer("auth.filter", "outcome", outcome));
 
         filterChain.doFilter(request, response);
     }
 
+    //캐시에 검증된 토큰이 있으면 그대로 사용, 없으면 한 번 복호화해서 검증과 인증 정보 생성을 같이 처리
+    //유효하지 않은 토큰은 캐시에 저장하지 않음
+    //캐시를 읽기 전에 서명 키 교체를 확인 -> 교체되었으면 캐시가 비워져 이전 키로 서명한 토큰은 다시 검증됨(401)
+    private String authenticate(String token) {
+        if (token == null) {
+            return "none";
+        }
+
+        long keyGeneration = tokenProvider.keyGeneration();
+        String key = DigestUtil.sha256(token);
+        UserDetails cached = tokenCache.get(key);
+        if (cached != null) {
+            SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(cached, token));
+            return "cached";
+        }
+
+        ParsedToken parsed = tokenProvider.parse(token);
+        if (parsed.isValid()) {
+            UserDetails principal = tokenProvider.getPrincipal(parsed.getClaims());
+            if (parsed.getClaims().getExpiration() != null) {
+                tokenCache.put(key, principal, parsed.getClaims().getExpiration().toInstant());
+                //검증하는 동안 키가 교체되었으면 이전 키로 검증한 항목이 남지 않도록 제거
+                if (tokenProvider.keyGeneration() != keyGeneration) {
+                    tokenCache.invalidate(key);
+                }
+            }
+            SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(principal, token));
+        }
+        return MetricsUtil.outcome(parsed.getStatus());
+    }
+
     //키가 Authorization인 필드의 토큰값이 null이거나 Bearer로 시작하지 않으면 null을 반환하는 메서드
     private String getAccessToken(String authorizationHeader) {
         if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
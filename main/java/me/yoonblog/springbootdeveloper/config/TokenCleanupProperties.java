@@ -0,0 +1,25 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+//만료된 리프레시 토큰 정리 작업 설정
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("token.cleanup")
+public class TokenCleanupProperties {
+    private boolean enabled = true;
+    //작업 간격(이전 작업이 끝난 뒤부터)
+    private Duration interval = Duration.ofHours(1);
+    //한 번의 DELETE로 지우는 최대 행 수
+    private int chunkSize = 1_000;
+    //DELETE 사이에 쉬는 시간 -> 인증 요청의 쿼리가 끼어들 틈을 줌
+    private Duration pause = Duration.ofMillis(100);
+    //작업 한 번에 실행하는 최대 DELETE 횟수 -> 남은 행은 다음 작업에서 삭제
+    private int maxChunks = 100;
+}
@@ -0,0 +1,21 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+//글 조회수 반영 작업 설정
+@Setter
+@Getter
+@Component
+@ConfigurationProperties("view-count")
+public class ViewCountProperties {
+    private boolean enabled = true;
+    //메모리에 모은 조회수를 데이터베이스에 반영하는 간격 -> 비정상 종료 시 최대 이 시간만큼의 조회수를 잃음
+    private Duration flushInterval = Duration.ofSeconds(10);
+    //UPDATE를 몇 개씩 묶어 보낼지
+    private int batchSize = 500;
+}
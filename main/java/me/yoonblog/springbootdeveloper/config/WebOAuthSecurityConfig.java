@@ -1,24 +1,30 @@
 package me.yoonblog.springbootdeveloper.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import me.yoonblog.springbootdeveloper.config.jwt.JwtProperties;
 import me.yoonblog.springbootdeveloper.config.jwt.TokenProvider;
 import me.yoonblog.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestBasedOnCookieRepository;
+import me.yoonblog.springbootdeveloper.config.oauth.OAuth2AuthorizationRequestCookieCodec;
 import me.yoonblog.springbootdeveloper.config.oauth.OAuth2SuccessHandler;
 import me.yoonblog.springbootdeveloper.config.oauth.OAuth2UserCustomService;
-import me.yoonblog.springbootdeveloper.repository.RefreshTokenRepository;
+import me.yoonblog.springbootdeveloper.service.RefreshTokenService;
 import me.yoonblog.springbootdeveloper.service.UserService;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import java.time.Duration;
+
 import static org.springframework.boot.autoconfigure.security.servlet.PathRequest.toH2Console;
 
 @RequiredArgsConstructor
@@ -26,8 +32,12 @@ import static org.springframework.boot.autoconfigure.security.servlet.PathReques
 public class WebOAuthSecurityConfig {
     private final OAuth2UserCustomService oAuth2UserCustomService;
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final ExpiringCache<String, UserDetails> tokenCache;
+    private final JwtProperties jwtProperties;
+    private final MeterRegistry meterRegistry;
+    private final RateLimitProperties rateLimitProperties;
 
     @Bean
     public WebSecurityCustomizer configure() { //스프링 시큐리티 기능 비활성화
@@ -48,6 +58,9 @@ public class WebOAuthSecurityConfig {
 
         //헤더값을 확인할 커스텀 필터 추가
         http.addFilterBefore(tokenAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        //인증 필터 다음에 요청 제한 -> IP별, 토큰이 있으면 사용자별로도
+        //빈으로 등록하면 서블릿 필터로도 한 번 더 등록되어 토큰이 두 번 차감되므로 여기서만 생성
+        http.addFilterAfter(new RateLimitFilter(rateLimitProperties, meterRegistry), TokenAuthenticationFilter.class);
 
         //토큰 재발급 URL은 인증 없이 접근이 가능해야 함
         //나머지 API URL은 인증이 필요
@@ -79,22 +92,19 @@ public class WebOAuthSecurityConfig {
 
     @Bean
     public OAuth2SuccessHandler oAuth2SuccessHandler() {
-        return new OAuth2SuccessHandler(tokenProvider, refreshTokenRepository,
-                oAuth2AuthorizationRequestBasedOnCookieRepository(), userService);
+        return new OAuth2SuccessHandler(tokenProvider, refreshTokenService,
+                oAuth2AuthorizationRequestBasedOnCookieRepository(), userService, meterRegistry);
     }
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenProvider, tokenCache, meterRegistry);
     }
 
     @Bean
     public OAuth2AuthorizationRequestBasedOnCookieRepository oAuth2AuthorizationRequestBasedOnCookieRepository() {
-        return new OAuth2AuthorizationRequestBasedOnCookieRepository();
-    }
-
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new OAuth2AuthorizationRequestBasedOnCookieRepository(new OAuth2AuthorizationRequestCookieCodec(
+                jwtProperties.getSecretKey(),
+                Duration.ofSeconds(OAuth2AuthorizationRequestBasedOnCookieRepository.COOKIE_EXPIRE_SECONDS)));
     }
 }
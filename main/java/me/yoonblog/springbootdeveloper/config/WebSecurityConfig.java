@@ -64,10 +64,6 @@ public class WebSecurityConfig {
                 .build();
     }
 
-    //패스워드 인코더로 사용할 빈 등록
-    @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    //패스워드 인코더 빈은 PasswordHashingConfig에서 등록(비용 계수 설정 가능)
 }
 */
\ No newline at end of file
@@ -0,0 +1,32 @@
+package me.yoonblog.springbootdeveloper.config.datasource;
+
+import java.util.function.Supplier;
+
+//읽기 전용 DB에서 실행해도 되는 조회를 명시적으로 표시
+//복제 지연으로 방금 쓴 값이 잠시 안 보여도 되는 조회(글 목록, 내보내기 등)만 감싸서 사용
+//readOnly 트랜잭션이라도 감싸지 않은 조회는 주 DB에서 실행
+//-> 스프링 데이터 리포지토리의 기본 readOnly 메서드, 캐시를 채우는 조회, 토큰 확인은 항상 최신 값을 읽음
+public final class ReadReplica {
+    private static final ThreadLocal<Boolean> ALLOWED = new ThreadLocal<>();
+
+    private ReadReplica() {
+    }
+
+    //action 안에서 실행하는 readOnly 트랜잭션의 쿼리를 읽기 전용 DB로 보냄
+    //커넥션은 첫 쿼리 시점에 얻으므로 @Transactional(readOnly = true) 메서드 안에서 감싸도 적용됨
+    public static <T> T call(Supplier<T> action) {
+        Boolean previous = ALLOWED.get();
+        ALLOWED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                ALLOWED.remove();
+            }
+        }
+    }
+
+    static boolean isAllowed() {
+        return ALLOWED.get() != null;
+    }
+}
@@ -0,0 +1,30 @@
+package me.yoonblog.springbootdeveloper.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+//ReadReplica로 감싼 읽기 전용 트랜잭션이면 읽기 전용 DB, 그 외에는 주 DB의 커넥션을 반환하는 데이터 소스
+//readOnly만으로 보내지 않음 -> 리포지토리 기본 메서드처럼 의도하지 않은 조회가 복제 지연된 값을 읽지 않도록
+//트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부가 반영되므로
+//LazyConnectionDataSourceProxy로 감싸서 사용
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && ReadReplica.isAllowed()
+                ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,36 @@
+package me.yoonblog.springbootdeveloper.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//TokenProvider.parse() 결과
+//유효한 토큰이면 status가 VALID이고 claims가 채워짐, 그 외에는 실패 이유만 담김
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ParsedToken {
+    private final Status status;
+    private final Claims claims;
+
+    public enum Status {
+        VALID,
+        MISSING, //토큰이 없거나 빈 문자열
+        EXPIRED, //만료 시간(exp)이 지남
+        BAD_SIGNATURE, //서명이 비밀값과 맞지 않음
+        MALFORMED, //JWS 형식이 아님
+        UNSUPPORTED //서명되지 않은 토큰 등 지원하지 않는 형식
+    }
+
+    public static ParsedToken valid(Claims claims) {
+        return new ParsedToken(Status.VALID, claims);
+    }
+
+    public static ParsedToken invalid(Status status) {
+        return new ParsedToken(status, null);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
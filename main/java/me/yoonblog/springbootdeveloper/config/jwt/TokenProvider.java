@@ -1,36 +1,78 @@
 package me.yoonblog.springbootdeveloper.config.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import me.yoonblog.springbootdeveloper.util.MetricsUtil;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 @Service
 public class TokenProvider {
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
 
     private final JwtProperties jwtProperties;
+    //비밀값으로 만든 서명 키와 파서 -> 요청마다 만들지 않고 재사용, 비밀값이 바뀌면 다시 만듦
+    private volatile SigningKey signingKey;
+    //TokenAuthenticationFilter의 검증된 토큰 캐시 -> 키를 교체하면 이전 키로 검증한 항목을 모두 제거
+    private final ExpiringCache<String, UserDetails> tokenCache;
+    //parse() 결과별 타이머 -> jwt.parse{outcome=valid|expired|bad-signature|...}
+    private final Map<ParsedToken.Status, Timer> parseTimers = new EnumMap<>(ParsedToken.Status.class);
+
+    public TokenProvider(JwtProperties jwtProperties, ExpiringCache<String, UserDetails> tokenCache,
+                         MeterRegistry meterRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.tokenCache = tokenCache;
+        this.signingKey = SigningKey.of(jwtProperties.getSecretKey(), 0);
+        for (ParsedToken.Status status : ParsedToken.Status.values()) {
+            parseTimers.put(status, meterRegistry.timer("jwt.parse", "outcome", MetricsUtil.outcome(status)));
+        }
+    }
 
     public String generateToken(User user, Duration expiredAt) {
+        return generateToken(user.getId(), user.getEmail(), expiredAt);
+    }
+
+    //만료 시각을 직접 지정해 토큰 생성 -> 같은 만료 시각을 데이터베이스에도 저장할 때 사용
+    //exp 클레임은 초 단위로 저장되므로 expiry는 초 단위로 잘라서 전달
+    public String generateToken(User user, Date expiry) {
+        return makeToken(expiry, user.getId(), user.getEmail());
+    }
+
+    //유저 엔티티 없이 ID와 이메일만으로 토큰 생성 -> 검증된 클레임에서 꺼낸 값으로 재발급할 때 사용
+    public String generateToken(Long userId, String email, Duration expiredAt) {
         Date now = new Date();
-        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user);
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), userId, email);
     }
 
     //JWT 토큰 생성 메서드
     //인자로 만료 시간, 유저 정보 받아옴
     //set 계열 메서드로 값 저장
-    private String makeToken(Date expiry, User user) {
+    private String makeToken(Date expiry, Long userId, String email) {
         Date now = new Date();
 
         return Jwts.builder()
@@ -39,23 +81,42 @@ public class TokenProvider {
                 .setIssuer(jwtProperties.getIssuer())
                 .setIssuedAt(now) //내용 iat : 현재 시간
                 .setExpiration(expiry) //내용 exp : expiry 멤버 변숫값
-                .setSubject(user.getEmail()) //내용 sub : 유저 이메일
-                .claim("id", user.getId()) //클레임 id : 유저 ID
+                .setSubject(email) //내용 sub : 유저 이메일
+                .claim("id", userId) //클레임 id : 유저 ID
                 //서명 : 비밀값과 함께 해시값을 HS256 방식으로 암호화
-                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
+                .signWith(SIGNATURE_ALGORITHM, signingKey().key())
                 .compact();
     }
 
     //JWT 토큰 유효성 검증 메서드
     //프로퍼티즈 파일에 선언한 비밀값과 함께 토큰 복호화 진행
     public boolean validToken(String token) {
+        return parse(token).isValid();
+    }
+
+    //토큰을 한 번 복호화해 클레임 또는 실패 이유를 반환하는 메서드
+    //검증과 인증 정보 생성이 모두 필요하면 이 메서드의 결과를 재사용
+    public ParsedToken parse(String token) {
+        long start = System.nanoTime();
+        ParsedToken parsed = parseInternal(token);
+        parseTimers.get(parsed.getStatus()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return parsed;
+    }
+
+    private ParsedToken parseInternal(String token) {
+        if (token == null || token.isBlank()) {
+            return ParsedToken.invalid(ParsedToken.Status.MISSING);
+        }
         try {
-            Jwts.parser()
-                    .setSigningKey(jwtProperties.getSecretKey()) //비밀값으로 복호화
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) { //복호화 과정에서 에러가 나면 유효하지 않은 토큰임
-            return false;
+            return ParsedToken.valid(signingKey().parser().parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException e) {
+            return ParsedToken.invalid(ParsedToken.Status.EXPIRED);
+        } catch (SignatureException e) {
+            return ParsedToken.invalid(ParsedToken.Status.BAD_SIGNATURE);
+        } catch (UnsupportedJwtException e) {
+            return ParsedToken.invalid(ParsedToken.Status.UNSUPPORTED);
+        } catch (JwtException | IllegalArgumentException e) { //형식 오류, nbf 이전 토큰 등 나머지 검증 실패
+            return ParsedToken.invalid(ParsedToken.Status.MALFORMED);
         }
     }
 
@@ -63,11 +124,24 @@ public class TokenProvider {
     //토큰을 받아 인증 정보를 담은 객체 Authentication을 반환
     //getClaims() 메서드를 호출, 클레임 정보를 반환받아 사용자 이메일이 들어있는 토큰 제목 sub와 토큰 기반으로 인증 정보 생성
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
+        return getAuthentication(getClaims(token), token);
+    }
+
+    //이미 검증한 클레임으로 인증 정보를 만드는 메서드
+    public Authentication getAuthentication(Claims claims, String token) {
+        return getAuthentication(getPrincipal(claims), token);
+    }
+
+    //이미 검증한 클레임으로 사용자 정보(이름, 권한)를 만드는 메서드 -> 변경되지 않으므로 여러 요청이 공유해도 안전
+    public UserDetails getPrincipal(Claims claims) {
         Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
 
-        return new UsernamePasswordAuthenticationToken(new org.springframework.security.core
-                .userdetails.User(claims.getSubject(), "", authorities), token, authorities);
+        return new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities);
+    }
+
+    //사용자 정보로 인증 정보를 만드는 메서드 -> 인증 객체는 요청마다 새로 만듦
+    public Authentication getAuthentication(UserDetails principal, String token) {
+        return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
     }
 
     //토큰 기반으로 유저 ID를 가져오는 메서드
@@ -79,9 +153,50 @@ public class TokenProvider {
 
     //프로퍼티즈 파일에 저장한 비밀값으로 토큰을 복호화한 뒤 클레임을 가져오는 메서드
     private Claims getClaims(String token) {
-        return Jwts.parser() //클레임 조회
-                .setSigningKey(jwtProperties.getSecretKey())
+        return signingKey().parser() //클레임 조회
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    //현재 서명 키의 세대 -> 키를 교체할 때마다 1씩 증가
+    //호출할 때마다 비밀값이 바뀌었는지 확인하므로 토큰 캐시를 읽기 전에 호출하면 교체 직후 첫 요청부터 캐시가 비워져 있음
+    //캐시에 저장한 뒤 세대가 달라졌으면 저장한 항목을 지워야 함(교체 도중 이전 키로 검증한 토큰)
+    public long keyGeneration() {
+        return signingKey().generation();
+    }
+
+    //현재 비밀값으로 만든 서명 키를 반환, 비밀값이 바뀌었으면(키 교체) 새로 만들어 교체
+    //이전 키로 검증해 캐시한 토큰은 더 이상 인증되지 않도록 토큰 캐시를 비움
+    private SigningKey signingKey() {
+        SigningKey current = signingKey;
+        String secret = jwtProperties.getSecretKey();
+        if (!current.secret().equals(secret)) {
+            synchronized (this) {
+                current = signingKey;
+                if (!current.secret().equals(secret)) {
+                    current = SigningKey.of(secret, current.generation() + 1);
+                    signingKey = current;
+                    tokenCache.invalidateAll();
+                }
+            }
+        }
+        return current;
+    }
+
+    //비밀값, 서명 키, 파서를 묶은 객체
+    //jjwt 0.9의 JwtParser는 set 메서드로 설정을 바꾸는 가변 객체 -> 만든 직후에만 설정하고 이후에는 parseClaimsJws()만 호출
+    //parseClaimsJws()는 파서의 필드를 읽기만 하고, volatile 필드(signingKey)로 전달되어 설정값이 다른 스레드에도 보이므로 공유해도 안전
+    private record SigningKey(String secret, Key key, JwtParser parser, long generation) {
+        static SigningKey of(String secret, long generation) {
+            Key key = new SecretKeySpec(decode(secret), SIGNATURE_ALGORITHM.getJcaName());
+            return new SigningKey(secret, key, Jwts.parser().setSigningKey(key), generation);
+        }
+
+        //jjwt가 문자열 비밀값을 처리하는 방식과 같게 Base64로 디코딩 -> 이미 발급한 토큰도 그대로 검증됨
+        //Base64 알파벳이 아닌 문자는 무시하고, 4글자가 안 되는 마지막 조각은 버림
+        static byte[] decode(String secret) {
+            String base64 = secret.replaceAll("[^A-Za-z0-9+/=]", "");
+            return Base64.getDecoder().decode(base64.substring(0, base64.length() - base64.length() % 4));
+        }
+    }
 }
@@ -3,16 +3,20 @@ package me.yoonblog.springbootdeveloper.config.oauth;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import me.yoonblog.springbootdeveloper.util.CookieUtil;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.web.util.WebUtils;
 
+@RequiredArgsConstructor
 public class OAuth2AuthorizationRequestBasedOnCookieRepository implements
         AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
 
     public final static String OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME = "oauth2_auth_request";
-    private final static int COOKIE_EXPIRE_SECONDS = 18000;
+    public final static int COOKIE_EXPIRE_SECONDS = 18000;
+
+    private final OAuth2AuthorizationRequestCookieCodec cookieCodec;
 
     @Override
     public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
@@ -20,11 +24,12 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements
         return this.loadAuthorizationRequest(request);
     }
 
+    //쿠키가 없거나 서명 검증에 실패하면 null 반환
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
         Cookie cookie = WebUtils.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
 
-        return CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class);
+        return cookie == null ? null : cookieCodec.decode(cookie.getValue());
     }
 
     @Override
@@ -35,7 +40,7 @@ public class OAuth2AuthorizationRequestBasedOnCookieRepository implements
             return;
         }
         CookieUtil.addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
-                CookieUtil.serialize(authorizationRequest), COOKIE_EXPIRE_SECONDS);
+                cookieCodec.encode(authorizationRequest), COOKIE_EXPIRE_SECONDS);
     }
 
     public void removeAuthorizationRequestCookies(HttpServletRequest request, HttpServletResponse response) {
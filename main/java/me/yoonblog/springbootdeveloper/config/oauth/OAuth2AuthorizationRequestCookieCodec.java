@@ -0,0 +1,120 @@
+package me.yoonblog.springbootdeveloper.config.oauth;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//OAuth2 인증 요청을 쿠키 값으로 변환/복원하는 클래스
+//자바 직렬화 대신 필요한 필드만 짧은 키의 JSON으로 만들고 HMAC-SHA256 서명을 붙임
+//형식 : {버전}.{Base64URL(JSON)}.{Base64URL(HMAC)}
+public class OAuth2AuthorizationRequestCookieCodec {
+    private static final String VERSION = "1";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String KEY_LABEL = "oauth2-authorization-request";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final SecretKeySpec key;
+    private final Duration maxAge;
+
+    //JWT 비밀값을 그대로 쓰지 않고 용도 라벨로 한 번 더 HMAC을 거친 키를 사용
+    public OAuth2AuthorizationRequestCookieCodec(String secret, Duration maxAge) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        this.key = new SecretKeySpec(hmac(new SecretKeySpec(secretBytes, HMAC_ALGORITHM),
+                KEY_LABEL.getBytes(StandardCharsets.UTF_8)), HMAC_ALGORITHM);
+        this.maxAge = maxAge;
+    }
+
+    //인증 요청 -> 쿠키 값
+    //authorizationRequestUri는 나머지 필드로 다시 만들 수 있으므로 저장하지 않음
+    public String encode(OAuth2AuthorizationRequest request) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("t", Instant.now().getEpochSecond());
+        fields.put("u", request.getAuthorizationUri());
+        fields.put("c", request.getClientId());
+        fields.put("r", request.getRedirectUri());
+        fields.put("s", request.getScopes());
+        fields.put("st", request.getState());
+        if (!request.getAdditionalParameters().isEmpty()) {
+            fields.put("p", request.getAdditionalParameters());
+        }
+        if (!request.getAttributes().isEmpty()) {
+            fields.put("a", request.getAttributes());
+        }
+
+        try {
+            String payload = VERSION + "." + encodeBase64(OBJECT_MAPPER.writeValueAsBytes(fields));
+            return payload + "." + encodeBase64(hmac(key, payload.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot encode authorization request", e);
+        }
+    }
+
+    //쿠키 값 -> 인증 요청
+    //버전이 다르거나 서명이 맞지 않거나 만료된 값이면 null 반환
+    @SuppressWarnings("unchecked")
+    public OAuth2AuthorizationRequest decode(String value) {
+        if (value == null) {
+            return null;
+        }
+        int signatureIndex = value.lastIndexOf('.');
+        if (signatureIndex < 0 || !value.startsWith(VERSION + ".")) {
+            return null;
+        }
+
+        try {
+            String payload = value.substring(0, signatureIndex);
+            byte[] signature = Base64.getUrlDecoder().decode(value.substring(signatureIndex + 1));
+            if (!MessageDigest.isEqual(signature, hmac(key, payload.getBytes(StandardCharsets.US_ASCII)))) {
+                return null;
+            }
+
+            Map<String, Object> fields = OBJECT_MAPPER.readValue(
+                    Base64.getUrlDecoder().decode(payload.substring(VERSION.length() + 1)), MAP_TYPE);
+            long issuedAt = ((Number) fields.get("t")).longValue();
+            if (Instant.ofEpochSecond(issuedAt).plus(maxAge).isBefore(Instant.now())) {
+                return null;
+            }
+
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri((String) fields.get("u"))
+                    .clientId((String) fields.get("c"))
+                    .redirectUri((String) fields.get("r"))
+                    .scopes(new HashSet<>((List<String>) fields.get("s")))
+                    .state((String) fields.get("st"))
+                    .additionalParameters((Map<String, Object>) fields.getOrDefault("p", Map.of()))
+                    .attributes((Map<String, Object>) fields.getOrDefault("a", Map.of()))
+                    .build();
+        } catch (Exception e) { //Base64/JSON 형식이 깨진 값
+            return null;
+        }
+    }
+
+    private static String encodeBase64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) { //모든 JVM은 HmacSHA256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
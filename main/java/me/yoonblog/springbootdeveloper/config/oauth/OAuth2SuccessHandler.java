@@ -1,14 +1,16 @@
 package me.yoonblog.springbootdeveloper.config.oauth;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.yoonblog.springbootdeveloper.config.jwt.TokenProvider;
-import me.yoonblog.springbootdeveloper.domain.RefreshToken;
 import me.yoonblog.springbootdeveloper.domain.User;
-import me.yoonblog.springbootdeveloper.repository.RefreshTokenRepository;
+import me.yoonblog.springbootdeveloper.service.RefreshTokenService;
 import me.yoonblog.springbootdeveloper.service.UserService;
 import me.yoonblog.springbootdeveloper.util.CookieUtil;
+import me.yoonblog.springbootdeveloper.util.MetricsUtil;
 import org.hibernate.boot.model.internal.CreateKeySecondPass;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -18,6 +20,11 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 
 @RequiredArgsConstructor
 @Component
@@ -28,19 +35,37 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     public static final String REDIRECT_PATH = "/articles";
 
     private final TokenProvider tokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final OAuth2AuthorizationRequestBasedOnCookieRepository authorizationRequestRepository;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException {
-        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
-        User user = userService.findByEmail((String) oAuth2User.getAttributes().get("email"));
+        //로그인 성공 처리 시간 기록 -> oauth2.login.success{outcome=success|not-found|error}
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricsUtil.SUCCESS;
+        try {
+            handleSuccess(request, response, authentication);
+        } catch (RuntimeException e) {
+            outcome = MetricsUtil.outcome(e);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("oauth2.login.success", "outcome", outcome));
+        }
+    }
+
+    private void handleSuccess(HttpServletRequest request, HttpServletResponse response,
+                               Authentication authentication) throws IOException {
+        User user = resolveUser((OAuth2User) authentication.getPrincipal());
 
         //리프레시 토큰 생성 -> 저장 -> 쿠키에 저장
-        String refreshToken = tokenProvider.generateToken(user, REFRESH_TOKEN_DURATION); //리프레쉬 토큰 생성
-        saveRefreshToken(user.getId(), refreshToken); //리프레쉬 토큰을 데이터베이스에 저장
+        //토큰의 exp와 데이터베이스의 만료 시각이 같도록 만료 시각을 한 번만 계산해 둘 다에 사용
+        Instant refreshTokenExpiry = Instant.now().plus(REFRESH_TOKEN_DURATION).truncatedTo(ChronoUnit.SECONDS);
+        String refreshToken = tokenProvider.generateToken(user, Date.from(refreshTokenExpiry)); //리프레쉬 토큰 생성
+        refreshTokenService.saveRefreshToken(user.getId(), refreshToken,
+                LocalDateTime.ofInstant(refreshTokenExpiry, ZoneId.systemDefault())); //리프레쉬 토큰을 데이터베이스에 저장
         addRefreshTokenToCookie(request, response, refreshToken); //리프레쉬 토큰을 쿠키에 저장
 
         //액세스 토큰 생성 -> 패스에 액세스 토큰 추가
@@ -56,13 +81,12 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
     }
 
-    //생성된 리프레시 토큰을 전달받아 데이터베이스에 저장
-    private void saveRefreshToken(Long userId, String newRefreshToken) {
-        RefreshToken refreshToken = refreshTokenRepository.findByUserId(userId)
-                .map(entity -> entity.update(newRefreshToken))
-                .orElse(new RefreshToken(userId, newRefreshToken));
-
-        refreshTokenRepository.save(refreshToken);
+    //loadUser()에서 담아준 유저를 사용, 다른 경로로 만들어진 인증 객체면 이메일로 조회
+    private User resolveUser(OAuth2User oAuth2User) {
+        if (oAuth2User instanceof OAuth2UserPrincipal principal) {
+            return principal.getUser();
+        }
+        return userService.findByEmail((String) oAuth2User.getAttributes().get("email"));
     }
 
     //생성된 리프레시 토큰을 쿠키에 저장
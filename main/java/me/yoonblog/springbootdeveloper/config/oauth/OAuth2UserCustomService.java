@@ -3,6 +3,7 @@ package me.yoonblog.springbootdeveloper.config.oauth;
 import lombok.RequiredArgsConstructor;
 import me.yoonblog.springbootdeveloper.domain.User;
 import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import me.yoonblog.springbootdeveloper.service.UserService;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -10,33 +11,47 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
 public class OAuth2UserCustomService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
+    private final UserService userService;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         //요청을 바탕으로 유저 정보를 담은 객체를 반환
         //부모 클래스인 DefaultOAuth2UserService에서 제공하는 loadUser() 메서드
-        OAuth2User user = super.loadUser(userRequest);
-        saveOrUpdate(user);
-        return user;
+        OAuth2User oAuth2User = super.loadUser(userRequest);
+        User user = saveOrUpdate(oAuth2User);
+
+        //저장/조회한 유저를 인증 객체에 담아 성공 핸들러로 전달
+        String nameAttributeKey = userRequest.getClientRegistration().getProviderDetails()
+                .getUserInfoEndpoint().getUserNameAttributeName();
+        return new OAuth2UserPrincipal(oAuth2User.getAuthorities(), oAuth2User.getAttributes(),
+                nameAttributeKey, user);
     }
 
     //유저가 있으면 업데이트, 없으면 유저 생성
-    private User saveOrUpdate(OAuth2User oAuth2User) {
+    //이름이 그대로면 조회 한 번으로 끝내고, 바뀌었을 때만 UPDATE
+    User saveOrUpdate(OAuth2User oAuth2User) {
         Map<String, Object> attributes = oAuth2User.getAttributes();
         String email = (String) attributes.get("email");
         String name = (String) attributes.get("name");
-        User user = userRepository.findByEmail(email)
-                .map(entity -> entity.update(name))
-                .orElse(User.builder()
-                        .email(email)
-                        .nickname(name)
-                        .build());
+        User user = userRepository.findByEmail(email).orElse(null);
 
-        return userRepository.save(user);
+        if (user == null) {
+            return userRepository.save(User.builder()
+                    .email(email)
+                    .nickname(name)
+                    .build());
+        }
+        if (!Objects.equals(user.getNickname(), name)) {
+            userRepository.updateNickname(user.getId(), name);
+            userService.evict(user); //바뀐 이름이 캐시에 남지 않도록 제거
+            user.update(name);
+        }
+        return user;
     }
 }
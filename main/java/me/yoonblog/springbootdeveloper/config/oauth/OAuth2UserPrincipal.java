@@ -0,0 +1,22 @@
+package me.yoonblog.springbootdeveloper.config.oauth;
+
+import lombok.Getter;
+import me.yoonblog.springbootdeveloper.domain.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import java.util.Collection;
+import java.util.Map;
+
+//OAuth2 인증 결과에 저장/조회한 유저를 함께 담는 객체
+//로그인 성공 핸들러가 이메일로 유저를 다시 조회하지 않도록 loadUser()에서 넘겨줌
+@Getter
+public class OAuth2UserPrincipal extends DefaultOAuth2User {
+    private final User user;
+
+    public OAuth2UserPrincipal(Collection<? extends GrantedAuthority> authorities,
+                               Map<String, Object> attributes, String nameAttributeKey, User user) {
+        super(authorities, attributes, nameAttributeKey);
+        this.user = user;
+    }
+}
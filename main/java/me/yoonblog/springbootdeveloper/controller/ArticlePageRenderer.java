@@ -0,0 +1,104 @@
+package me.yoonblog.springbootdeveloper.controller;
+
+import jakarta.servlet.ServletContext;
+import me.yoonblog.springbootdeveloper.dto.RenderedPage;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Supplier;
+
+//글/글 목록 페이지를 Thymeleaf로 렌더링하고 결과 바이트를 글 버전과 함께 캐시
+//캐시된 버전과 요청 시점의 버전이 같으면 템플릿 실행 없이 저장해둔 바이트를 그대로 응답
+//템플릿에 사용자별 내용이 없으므로 모든 사용자가 같은 캐시를 사용
+//조회수처럼 요청마다 바뀌는 값은 캐시한 페이지의 사본에서 응답할 때 바꿔 씀
+@Component
+public class ArticlePageRenderer {
+    //article.html의 조회수 태그 -> 태그 안의 숫자를 응답 시점의 조회수로 바꿈
+    //글 제목/본문은 이스케이프되므로(< -> &lt;) 사용자가 쓴 내용과 겹치지 않음
+    private static final byte[] VIEW_COUNT_TAG = "<span id=\"view-count\">".getBytes(StandardCharsets.UTF_8);
+
+    private final ITemplateEngine templateEngine;
+    private final JakartaServletWebApplication application;
+    private final ExpiringCache<Long, RenderedPage> articlePageCache;
+    private final ExpiringCache<String, RenderedPage> articleListPageCache;
+
+    public ArticlePageRenderer(ITemplateEngine templateEngine, ServletContext servletContext,
+                               ExpiringCache<Long, RenderedPage> articlePageCache,
+                               ExpiringCache<String, RenderedPage> articleListPageCache) {
+        this.templateEngine = templateEngine;
+        this.application = JakartaServletWebApplication.buildApplication(servletContext);
+        this.articlePageCache = articlePageCache;
+        this.articleListPageCache = articleListPageCache;
+    }
+
+    //article.html, viewCount : 응답 시점의 조회수 -> 캐시한 페이지에는 렌더링할 때의 조회수가 들어 있으므로 사본에서 바꿈
+    public byte[] renderArticle(long id, String version, long viewCount, Supplier<Map<String, Object>> model,
+                                ServletWebRequest request) {
+        byte[] body = render(articlePageCache, id, version, "article", model, request);
+        return fillViewCount(body, viewCount);
+    }
+
+    //articleList.html, key : "after-limit"
+    public byte[] renderArticleList(String key, String version, Supplier<Map<String, Object>> model,
+                                    ServletWebRequest request) {
+        return render(articleListPageCache, key, version, "articleList", model, request);
+    }
+
+    //model은 캐시 미스일 때만 호출 -> 캐시 적중 시 DTO 변환과 템플릿 실행을 하지 않음
+    //렌더링 도중 글이 수정되면 새 내용이 옛 버전으로 저장될 수 있으나, 다음 요청의 버전이 달라 다시 렌더링되므로 옛 내용을 응답하지 않음
+    private <K> byte[] render(ExpiringCache<K, RenderedPage> cache, K key, String version, String template,
+                              Supplier<Map<String, Object>> model, ServletWebRequest request) {
+        RenderedPage cached = cache.get(key);
+        if (cached != null && cached.getVersion().equals(version)) {
+            return cached.getBody();
+        }
+
+        //@{/...} 링크에 컨텍스트 경로를 붙이려면 웹 컨텍스트가 필요
+        WebContext context = new WebContext(
+                application.buildExchange(request.getRequest(), request.getResponse()),
+                request.getLocale(), model.get());
+        byte[] body = templateEngine.process(template, context).getBytes(StandardCharsets.UTF_8);
+        cache.put(key, new RenderedPage(version, body));
+        return body;
+    }
+
+    //조회수 태그 안의 숫자를 viewCount로 바꾼 사본을 반환, 캐시한 바이트는 그대로 둠
+    static byte[] fillViewCount(byte[] body, long viewCount) {
+        int tag = indexOf(body, VIEW_COUNT_TAG);
+        if (tag < 0) {
+            return body;
+        }
+        int slot = tag + VIEW_COUNT_TAG.length;
+        int end = slot;
+        while (end < body.length && body[end] != '<') { //숫자만 있으므로 다음 '<'는 </span>
+            end++;
+        }
+        int slotLength = end - slot;
+        byte[] count = Long.toString(viewCount).getBytes(StandardCharsets.US_ASCII);
+
+        byte[] filled = new byte[body.length - slotLength + count.length];
+        System.arraycopy(body, 0, filled, 0, slot);
+        System.arraycopy(count, 0, filled, slot, count.length);
+        System.arraycopy(body, slot + slotLength, filled, slot + count.length, body.length - slot - slotLength);
+        return filled;
+    }
+
+    private static int indexOf(byte[] body, byte[] target) {
+        outer:
+        for (int i = 0; i <= body.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (body[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
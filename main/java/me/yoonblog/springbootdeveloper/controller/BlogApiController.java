@@ -1,14 +1,33 @@
 package me.yoonblog.springbootdeveloper.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import me.yoonblog.springbootdeveloper.config.ArticleExportProperties;
+import me.yoonblog.springbootdeveloper.config.AsyncTimeoutInterceptor;
 import me.yoonblog.springbootdeveloper.domain.Article;
 import me.yoonblog.springbootdeveloper.dto.AddArticleRequest;
+import me.yoonblog.springbootdeveloper.dto.ArticleBatchRequest;
+import me.yoonblog.springbootdeveloper.dto.ArticleBatchResult;
+import me.yoonblog.springbootdeveloper.dto.ArticleExportResponse;
+import me.yoonblog.springbootdeveloper.dto.ArticleListResponse;
 import me.yoonblog.springbootdeveloper.dto.ArticleResponse;
+import me.yoonblog.springbootdeveloper.dto.ArticleSearchResponse;
+import me.yoonblog.springbootdeveloper.dto.ArticleSummary;
+import me.yoonblog.springbootdeveloper.dto.CursorPage;
 import me.yoonblog.springbootdeveloper.dto.UpdateArticleRequest;
+import me.yoonblog.springbootdeveloper.exception.PreconditionFailedException;
+import me.yoonblog.springbootdeveloper.service.ArticleSearchService;
 import me.yoonblog.springbootdeveloper.service.BlogService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.security.Principal;
 import java.util.List;
@@ -17,6 +36,9 @@ import java.util.List;
 @RestController //해당 애너테이션을 클래스에 붙이면 HTTP 응답으로 객체 데이터를 JSON 형식으로 반환
 public class BlogApiController {
     private final BlogService blogService;
+    private final ArticleSearchService articleSearchService;
+    private final ObjectMapper objectMapper;
+    private final ArticleExportProperties articleExportProperties;
 
     //HTTP 메서드가 POST일 때 전달받은 URL과 동일한 메서드로 매핑
     @PostMapping("/api/articles")
@@ -30,21 +52,97 @@ public class BlogApiController {
                 .body(savedArticle);
     }
 
+    //여러 글을 한 번에 추가/수정/삭제, 작업별 결과를 요청 순서대로 응답
+    //일부 작업이 실패해도 200 OK -> 각 결과의 status로 확인
+    //작업이 MAX_BATCH_OPERATIONS개를 넘으면 처리하지 않고 400 응답
+    @PostMapping("/api/articles/batch")
+    public ResponseEntity<List<ArticleBatchResult>> applyBatch(@RequestBody ArticleBatchRequest request,
+                                                               Principal principal) {
+        List<ArticleBatchRequest.Operation> operations =
+                request.getOperations() == null ? List.of() : request.getOperations();
+        if (operations.size() > BlogService.MAX_BATCH_OPERATIONS) {
+            return ResponseEntity.badRequest()
+                    .build();
+        }
+
+        List<ArticleBatchResult> results = blogService.applyBatch(operations, principal.getName());
+
+        return ResponseEntity.ok()
+                .body(results);
+    }
+
+    //after : 이전 페이지의 마지막 글 ID, limit : 한 페이지에 담을 글 개수
+    //다음 페이지가 있으면 Link 헤더(rel="next")에 다음 페이지 URL을 담아 전송
+    //If-None-Match의 ETag가 조회한 페이지의 버전과 같으면 본문 없이 304 응답
     @GetMapping("/api/articles")
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()
-                .map(ArticleResponse::new)
-                .toList();
+    public ResponseEntity<List<ArticleListResponse>> findAllArticles(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int limit,
+            ServletWebRequest webRequest) {
+        CursorPage<ArticleSummary> page = blogService.findAll(after, limit);
+        if (ConditionalRequests.listNotModified(webRequest, "articles-" + (after == null ? 0 : after) + "-" + limit,
+                ConditionalRequests.version(page))) {
+            return null;
+        }
+
+        CursorPage<ArticleListResponse> articles = page.map(ArticleListResponse::new);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (articles.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", articles.getNextCursor())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(articles.getItems());
+    }
+
+    //전체 글을 NDJSON(한 줄에 글 하나)으로 내보냄
+    //EXPORT_FETCH_SIZE 단위로 조회한 페이지를 바로 응답에 쓰고 flush -> 전체 글을 메모리에 올리지 않음
+    //글이 많으면 비동기 요청 기본 제한 시간 안에 다 쓰지 못하므로 article-export.timeout을 제한 시간으로 사용
+    @GetMapping(value = "/api/articles/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArticles(HttpServletRequest request) {
+        request.setAttribute(AsyncTimeoutInterceptor.TIMEOUT_ATTRIBUTE, articleExportProperties.getTimeout());
+
+        StreamingResponseBody body = outputStream -> {
+            long after = 0L;
+            List<ArticleExportResponse> rows;
+            do {
+                rows = blogService.findExportPage(after);
+                for (ArticleExportResponse row : rows) {
+                    outputStream.write(objectMapper.writeValueAsBytes(row));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+                if (!rows.isEmpty()) {
+                    after = rows.get(rows.size() - 1).getId();
+                }
+            } while (rows.size() == BlogService.EXPORT_FETCH_SIZE);
+        };
 
         return ResponseEntity.ok()
-                .body(articles);
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    //q : 검색어, page : 0부터 시작하는 페이지 번호
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ArticleSearchResponse> searchArticles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + ArticleSearchService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok()
+                .body(articleSearchService.search(q, page, size));
     }
 
     @GetMapping("/api/articles/{id}")
     //@PathVariable : URL 경로에서 값 추출
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id) {
+    //캐시에서 꺼낸 글의 버전을 If-None-Match, If-Modified-Since와 비교 -> 바뀌지 않았으면 본문 없이 304 응답
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable long id, ServletWebRequest webRequest) {
         Article article = blogService.findById(id);
+        if (ConditionalRequests.notModified(webRequest, "article-" + id, article)) {
+            return null;
+        }
 
         return ResponseEntity.ok()
                 .body(new ArticleResponse(article));
@@ -58,11 +156,30 @@ public class BlogApiController {
                 .build();
     }
 
+    //If-Match가 있으면 조회 응답의 ETag와 같은 버전일 때만 수정, 다르면 412 응답
+    //응답의 ETag는 수정한 뒤의 버전 -> 이어서 수정할 때 If-Match로 사용
     @PutMapping("/api/articles/{id}")
-    public ResponseEntity<Article> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request) {
-        Article updatedArticle = blogService.update(id, request);
+    public ResponseEntity<Article> updateArticle(@PathVariable long id, @RequestBody UpdateArticleRequest request,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                 String ifMatch) {
+        String scope = "article-" + id;
+        Article updatedArticle = blogService.update(id, request, ConditionalRequests.ifMatchVersion(ifMatch, scope));
 
         return ResponseEntity.ok()
+                .eTag(ConditionalRequests.etag(scope, updatedArticle))
                 .body(updatedArticle);
     }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Void> versionMismatch() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .build();
+    }
+
+    //같은 글을 동시에 수정해 먼저 커밋한 요청이 있으면 @Version 검사에서 실패 -> 다시 조회한 뒤 수정하도록 409 응답
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Void> concurrentUpdate() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .build();
+    }
 }
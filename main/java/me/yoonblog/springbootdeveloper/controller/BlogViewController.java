@@ -3,38 +3,74 @@ package me.yoonblog.springbootdeveloper.controller;
 import lombok.RequiredArgsConstructor;
 import me.yoonblog.springbootdeveloper.domain.Article;
 import me.yoonblog.springbootdeveloper.dto.ArticleListViewResponse;
+import me.yoonblog.springbootdeveloper.dto.ArticleSummary;
 import me.yoonblog.springbootdeveloper.dto.ArticleViewResponse;
+import me.yoonblog.springbootdeveloper.dto.CursorPage;
 import me.yoonblog.springbootdeveloper.service.BlogService;
+import me.yoonblog.springbootdeveloper.service.ViewCountService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Controller
 public class BlogViewController {
 
     private final BlogService blogService;
+    private final ArticlePageRenderer articlePageRenderer;
+    private final ViewCountService viewCountService;
 
+    //조회한 페이지의 버전이 같으면 304 응답, 렌더링한 페이지가 캐시에 있으면 템플릿 실행 없이 그대로 응답
     @GetMapping("/articles")
-    public String getArticles(Model model) {
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
-                .map(ArticleListViewResponse::new)
-                .toList();
-        model.addAttribute("articles", articles); //블로그 글 리스트를 저장
+    public ResponseEntity<byte[]> getArticles(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int limit,
+            ServletWebRequest webRequest) {
+        String key = (after == null ? 0 : after) + "-" + limit;
+        CursorPage<ArticleSummary> summaries = blogService.findAll(after, limit);
+        String version = ConditionalRequests.version(summaries);
+        if (ConditionalRequests.listNotModified(webRequest, "articles-view-" + key, version)) {
+            return null;
+        }
+
+        byte[] page = articlePageRenderer.renderArticleList(key, version, () -> {
+            CursorPage<ArticleListViewResponse> articles = summaries.map(ArticleListViewResponse::new);
+            Map<String, Object> model = new HashMap<>();
+            model.put("articles", articles.getItems()); //블로그 글 리스트를 저장
+            model.put("nextCursor", articles.getNextCursor()); //다음 페이지 커서(없으면 null)
+            model.put("limit", limit);
+            return model;
+        }, webRequest);
 
-        return "articleList"; // resource/templates/articleList.html이라는 뷰 조회
+        return html(page); // resource/templates/articleList.html을 렌더링한 결과
     }
 
+    //캐시에서 꺼낸 글의 버전이 같으면 렌더링 없이 304 응답, 렌더링한 페이지가 캐시에 있으면 그대로 응답
+    //글과 페이지가 모두 캐시에 있으면 데이터베이스 조회 없이 응답
+    //조회수는 304, 캐시 응답도 포함해 메모리에서 증가 -> 캐시한 페이지에도 응답 시점의 조회수를 채워 넣음
+    //(304 응답이면 브라우저가 저장해둔 페이지의 조회수가 그대로 보임)
     @GetMapping("/articles/{id}")
-    public String getArticle(@PathVariable Long id, Model model) {
+    public ResponseEntity<byte[]> getArticle(@PathVariable Long id, ServletWebRequest webRequest) {
         Article article = blogService.findById(id);
-        model.addAttribute("article", new ArticleViewResponse(article));
+        viewCountService.increment(id);
+        if (ConditionalRequests.notModified(webRequest, "article-view-" + id, article)) {
+            return null;
+        }
 
-        return "article";
+        long viewCount = viewCountService.count(id);
+        byte[] page = articlePageRenderer.renderArticle(id, ConditionalRequests.version(article),
+                viewCount, () -> Map.of("article", new ArticleViewResponse(article, viewCount)), webRequest);
+
+        return html(page);
     }
 
     @GetMapping("/new-article")
@@ -49,4 +85,10 @@ public class BlogViewController {
 
         return "newArticle";
     }
+
+    private static ResponseEntity<byte[]> html(byte[] page) {
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(page);
+    }
 }
@@ -0,0 +1,89 @@
+package me.yoonblog.springbootdeveloper.controller;
+
+import me.yoonblog.springbootdeveloper.domain.Article;
+import me.yoonblog.springbootdeveloper.dto.ArticleSummary;
+import me.yoonblog.springbootdeveloper.dto.CursorPage;
+import me.yoonblog.springbootdeveloper.util.DigestUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+//글 버전으로 ETag, Last-Modified를 만들고 If-None-Match, If-Modified-Since를 확인
+//바뀌지 않았으면 304 상태와 헤더를 설정하고 true 반환 -> 핸들러는 본문을 만들지 않고 null 반환
+//수정 요청의 If-Match는 ETag에서 글 버전을 꺼내 서비스에서 확인
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    //글 하나 -> 글의 @Version으로 ETag, 수정 시간으로 Last-Modified
+    //캐시에서 꺼낸 글을 그대로 사용하므로 버전 확인을 위한 쿼리가 따로 나가지 않음
+    static boolean notModified(ServletWebRequest request, String scope, Article article) {
+        return check(request, etag(scope, version(article)), toEpochMilli(article.getUpdatedAt()));
+    }
+
+    //글 목록 -> version(CursorPage)로 만든 페이지 버전으로 ETag(삭제는 최근 수정 시간에 반영되지 않으므로 Last-Modified는 사용하지 않음)
+    //목록은 어차피 조회해야 하므로 304여도 LIMIT 쿼리 한 번이고, 커서 이후 전체를 집계하지 않음
+    static boolean listNotModified(ServletWebRequest request, String scope, String version) {
+        return check(request, etag(scope, version), -1);
+    }
+
+    private static boolean check(ServletWebRequest request, String etag, long lastModified) {
+        //스프링 시큐리티 기본값(no-store)이면 브라우저가 저장하지 않아 조건부 요청을 보내지 않음
+        //저장은 허용하되 쓰기 전에 항상 재검증하도록 설정
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return request.checkNotModified(etag, lastModified);
+    }
+
+    //글 하나의 ETag -> 수정 응답에 담아 다음 수정 요청의 If-Match로 사용
+    static String etag(String scope, Article article) {
+        return etag(scope, version(article));
+    }
+
+    //If-Match 헤더의 ETag("범위-버전")에서 글 버전을 꺼냄, 헤더가 없거나 *이면 null(확인하지 않음)
+    //같은 범위의 강한 ETag가 없으면 어떤 버전과도 같지 않은 -1 -> 412
+    static Long ifMatchVersion(String ifMatch, String scope) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + scope + "-";
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+                } catch (NumberFormatException ignored) {
+                    //다른 범위의 ETag("article-1-..."와 "article-12-...")일 수 있으므로 다음 ETag 확인
+                }
+            }
+        }
+        return -1L;
+    }
+
+    //글의 @Version -> ETag와 렌더링 캐시에서 사용
+    static String version(Article article) {
+        return String.valueOf(article.getVersion());
+    }
+
+    //페이지에 담긴 글의 "ID:버전"과 다음 페이지 여부를 이어 붙인 문자열의 해시 -> ETag와 렌더링 캐시에서 사용
+    //페이지의 글이 추가/수정/삭제되거나 다음 페이지가 생기고 없어지면 바뀜
+    static String version(CursorPage<ArticleSummary> page) {
+        StringBuilder builder = new StringBuilder();
+        for (ArticleSummary article : page.getItems()) {
+            builder.append(article.getId()).append(':').append(article.getVersion()).append(',');
+        }
+        builder.append(page.hasNext());
+        return DigestUtil.sha256(builder.toString());
+    }
+
+    //강한 ETag : "범위-버전"
+    private static String etag(String scope, String version) {
+        return "\"" + scope + "-" + version + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
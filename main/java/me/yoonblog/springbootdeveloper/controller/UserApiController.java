@@ -5,22 +5,38 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.yoonblog.springbootdeveloper.dto.AddUserRequest;
 import me.yoonblog.springbootdeveloper.service.UserService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.SecurityContextLogoutHandler;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RequiredArgsConstructor
 @Controller
 public class UserApiController {
 
     private final UserService userService;
 
+    //패스워드 해시는 해시 전용 스레드 풀에서 실행 -> 해시가 끝날 때까지 톰캣 요청 스레드를 반환(비동기 요청)
     @PostMapping("/user")
-    public String signup(AddUserRequest request) {
-        userService.save(request); //회원가입 메서드 호출
-        return "redirect:/login"; //회원가입이 완료된 이후 로그인 페이지로 이동
+    public CompletableFuture<String> signup(AddUserRequest request) {
+        return userService.save(request) //회원가입 메서드 호출
+                .thenApply(id -> "redirect:/login"); //회원가입이 완료된 이후 로그인 페이지로 이동
+    }
+
+    //해시 대기열이 가득 차면 잠시 후 다시 시도하도록 503 응답
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Void> signupRejected() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
     }
 
     @GetMapping("/logout")
@@ -7,17 +7,21 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
 @Entity //엔티티로 지정
+@EntityListeners(AuditingEntityListener.class) //@CreatedDate, @LastModifiedDate 값을 저장/수정 시점에 채움
 @Getter //getId(), getTitle() 등 get 관련 메서드가 해당 애너테이션으로 대체 -> 접근자 메서드 역할
 //proteced Article() {} 코드가 해당 애너테이션으로 대체 -> 기본 생성자 역할
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Article {
 
     @Id //id 필드를 기본키로 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //기본키를 자동으로 1씩 증가
+    //시퀀스로 기본키 생성, allocationSize개씩 미리 받아 INSERT 없이 ID를 정함 -> JDBC 배치 INSERT 가능
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -51,4 +55,16 @@ public class Article {
     @LastModifiedDate //엔티티가 수정될 때 수정 시간 저장
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    //조회수 -> ViewCountService가 모아둔 증가분을 UPDATE로 더함
+    //엔티티 저장/수정이 모아서 더한 값을 덮어쓰지 않도록 INSERT/UPDATE 대상에서 제외(updated_at도 바뀌지 않음)
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0 not null")
+    private long viewCount;
+
+    //엔티티를 수정할 때마다 1씩 증가하는 버전 -> 동시 수정 감지, 조건부 요청의 ETag에 사용
+    //시간 대신 정수를 쓰므로 같은 밀리초 안의 수정도 구분됨, 조회수 UPDATE는 엔티티를 거치지 않아 바뀌지 않음
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private long version;
 }
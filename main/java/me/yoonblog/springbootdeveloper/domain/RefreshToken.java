@@ -4,7 +4,15 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import me.yoonblog.springbootdeveloper.util.DigestUtil;
 
+import java.time.LocalDateTime;
+
+@Table(name = "refresh_token",
+        indexes = {
+                @Index(name = "ux_refresh_token_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "ix_refresh_token_expires_at", columnList = "expires_at") //만료 토큰 정리용
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
@@ -18,16 +26,28 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false, unique = true)
     private Long userId;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String refreshToken;
+    //리프레시 토큰 원문 대신 SHA-256 해시(43자 고정)를 저장 -> 인덱스가 작고, DB가 유출돼도 토큰을 쓸 수 없음
+    @Column(name = "token_hash", nullable = false, length = 43)
+    private String tokenHash;
+
+    //토큰의 만료 시간(exp) -> 이 시간이 지난 행은 주기 작업에서 삭제
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
-    public RefreshToken(Long userId, String refreshToken) {
+    public RefreshToken(Long userId, String refreshToken, LocalDateTime expiresAt) {
         this.userId = userId;
-        this.refreshToken = refreshToken;
+        this.tokenHash = hash(refreshToken);
+        this.expiresAt = expiresAt;
     }
 
-    public RefreshToken update(String newRefreshToken) {
-        this.refreshToken = newRefreshToken;
+    public RefreshToken update(String newRefreshToken, LocalDateTime newExpiresAt) {
+        this.tokenHash = hash(newRefreshToken);
+        this.expiresAt = newExpiresAt;
         return this;
     }
+
+    //토큰 원문 -> 저장/조회에 사용하는 해시값
+    public static String hash(String refreshToken) {
+        return DigestUtil.sha256(refreshToken);
+    }
 }
@@ -0,0 +1,40 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.yoonblog.springbootdeveloper.domain.Article;
+
+import java.util.List;
+
+//여러 글을 한 번에 추가/수정/삭제하는 요청
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ArticleBatchRequest {
+    private List<Operation> operations;
+
+    public enum Type {
+        CREATE, //title, content 필요
+        UPDATE, //id, title, content 필요
+        DELETE //id 필요
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class Operation {
+        private Type type;
+        private Long id;
+        private String title;
+        private String content;
+
+        public Article toEntity(String author) {
+            return Article.builder()
+                    .title(title)
+                    .content(content)
+                    .author(author)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//일괄 처리 요청의 작업별 결과 -> index는 요청 operations에서의 순서
+@AllArgsConstructor
+@Getter
+public class ArticleBatchResult {
+    private final int index;
+    private final ArticleBatchRequest.Type type;
+    private final Long id; //추가한 글의 ID 또는 요청한 글 ID
+    private final Status status;
+    private final String reason; //FAILED일 때 실패 이유(constraint-violation, conflict, database-unavailable, database-error)
+
+    public ArticleBatchResult(int index, ArticleBatchRequest.Type type, Long id, Status status) {
+        this(index, type, id, status, null);
+    }
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND, //수정/삭제할 글이 없음
+        UNAUTHORIZED, //글쓴이가 아님
+        INVALID, //필수 값이 없음
+        FAILED //DB 오류로 이 작업이 속한 청크 전체가 롤백됨
+    }
+
+    public boolean isSucceeded() {
+        return status == Status.CREATED || status == Status.UPDATED || status == Status.DELETED;
+    }
+}
@@ -0,0 +1,19 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//전체 글 내보내기(NDJSON) 한 줄에 해당하는 DTO
+//JPQL 생성자 표현식으로 바로 만들어 영속성 컨텍스트에 엔티티가 쌓이지 않음
+@AllArgsConstructor
+@Getter
+public class ArticleExportResponse {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ArticleListResponse {
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final String excerpt;
+
+    public ArticleListResponse(ArticleSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.author = summary.getAuthor();
+        this.createdAt = summary.getCreatedAt();
+        this.excerpt = summary.getExcerpt();
+    }
+}
@@ -1,17 +1,22 @@
 package me.yoonblog.springbootdeveloper.dto;
 
 import lombok.Getter;
-import me.yoonblog.springbootdeveloper.domain.Article;
+
+import java.time.LocalDateTime;
 
 @Getter
 public class ArticleListViewResponse {
     private final Long id;
     private final String title;
-    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final String excerpt;
 
-    public ArticleListViewResponse(Article article) {
-        this.id = article.getId();
-        this.title = article.getTitle();
-        this.content = article.getContent();
+    public ArticleListViewResponse(ArticleSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.author = summary.getAuthor();
+        this.createdAt = summary.getCreatedAt();
+        this.excerpt = summary.getExcerpt();
     }
 }
@@ -0,0 +1,15 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//검색 결과 한 건
+//snippet : 검색어 주변 본문 일부, HTML 이스케이프 후 일치한 부분만 <em>으로 감쌈
+@AllArgsConstructor
+@Getter
+public class ArticleSearchHit {
+    private final Long id;
+    private final String title;
+    private final String snippet;
+    private final double score;
+}
@@ -0,0 +1,15 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+public class ArticleSearchResponse {
+    private final long total; //검색어와 일치한 전체 글 개수
+    private final int page;
+    private final int size;
+    private final List<ArticleSearchHit> hits;
+}
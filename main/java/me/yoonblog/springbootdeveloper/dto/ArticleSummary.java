@@ -0,0 +1,16 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import java.time.LocalDateTime;
+
+//글 목록 조회용 인터페이스 프로젝션
+//content 전체 대신 앞부분(excerpt)만 조회 -> 엔티티를 만들지 않으므로 영속성 컨텍스트 스냅샷도 생기지 않음
+public interface ArticleSummary {
+    int EXCERPT_LENGTH = 100; //목록에 보여줄 본문 최대 길이
+
+    Long getId();
+    String getTitle();
+    String getAuthor();
+    LocalDateTime getCreatedAt();
+    String getExcerpt();
+    long getVersion();
+}
@@ -14,12 +14,18 @@ public class ArticleViewResponse {
     private String content;
     private LocalDateTime createdAt;
     private String author;
+    private long viewCount; //응답 시점의 조회수 -> 엔티티의 조회수는 아직 반영하지 않은 조회수가 빠져 있음
 
     public ArticleViewResponse(Article article) {
+        this(article, article.getViewCount());
+    }
+
+    public ArticleViewResponse(Article article, long viewCount) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.createdAt = article.getCreatedAt();
         this.author = article.getAuthor();
+        this.viewCount = viewCount;
     }
 }
@@ -0,0 +1,24 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+//커서 기반 페이지 조회 결과
+//nextCursor : 다음 페이지 요청 시 after로 넘길 값, 마지막 페이지면 null
+@AllArgsConstructor
+@Getter
+public class CursorPage<T> {
+    private final List<T> items;
+    private final Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
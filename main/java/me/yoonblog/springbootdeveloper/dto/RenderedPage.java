@@ -0,0 +1,12 @@
+package me.yoonblog.springbootdeveloper.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//렌더링이 끝난 HTML과 렌더링할 때의 글 버전
+@AllArgsConstructor
+@Getter
+public class RenderedPage {
+    private final String version;
+    private final byte[] body; //UTF-8
+}
@@ -0,0 +1,9 @@
+package me.yoonblog.springbootdeveloper.exception;
+
+//리프레시 토큰이 유효하지 않거나 교체되었을 때 -> 메트릭 outcome=invalid-token
+//기존 호출부가 IllegalArgumentException으로 처리하므로 이를 상속
+public class InvalidTokenException extends IllegalArgumentException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
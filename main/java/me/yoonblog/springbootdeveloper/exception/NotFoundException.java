@@ -0,0 +1,9 @@
+package me.yoonblog.springbootdeveloper.exception;
+
+//조회하려는 글, 유저가 없을 때 -> 메트릭 outcome=not-found
+//기존 호출부가 IllegalArgumentException으로 처리하므로 이를 상속
+public class NotFoundException extends IllegalArgumentException {
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
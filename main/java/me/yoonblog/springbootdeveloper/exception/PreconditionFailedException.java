@@ -0,0 +1,8 @@
+package me.yoonblog.springbootdeveloper.exception;
+
+//If-Match로 받은 글 버전이 현재 버전과 다를 때(다른 요청이 먼저 수정) -> 412, 메트릭 outcome=precondition-failed
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
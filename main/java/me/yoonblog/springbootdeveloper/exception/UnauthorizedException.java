@@ -0,0 +1,9 @@
+package me.yoonblog.springbootdeveloper.exception;
+
+//다른 유저의 글을 수정/삭제하려 할 때 -> 메트릭 outcome=unauthorized
+//기존 호출부가 IllegalArgumentException으로 처리하므로 이를 상속
+public class UnauthorizedException extends IllegalArgumentException {
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
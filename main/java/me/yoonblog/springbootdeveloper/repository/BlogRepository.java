@@ -1,9 +1,32 @@
 package me.yoonblog.springbootdeveloper.repository;
 
 import me.yoonblog.springbootdeveloper.domain.Article;
+import me.yoonblog.springbootdeveloper.dto.ArticleExportResponse;
+import me.yoonblog.springbootdeveloper.dto.ArticleSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 //BlogRepository 인터페이스가 JpaRepository 클래스를 상속받음
 //이때 엔티티 Aritcle과 엔티티의 PK 타입 Long을 인수로 넣음
 public interface BlogRepository extends JpaRepository<Article, Long> {
+    //커서(after) 이후의 글을 id 순으로 limit 개수만큼 조회 -> 검색 색인 생성처럼 전체 글을 나눠 읽을 때 사용
+    List<Article> findByIdGreaterThanOrderByIdAsc(Long after, Pageable pageable);
+
+    //목록 조회용 -> 필요한 컬럼과 본문 앞부분만 프로젝션으로 조회
+    //커서(after) 이후의 글을 id 순으로 조회 -> PK 인덱스를 타므로 몇 번째 페이지든 조회 비용이 같음
+    //Pageable은 LIMIT 용도로만 사용(offset 0), List로 받아 count 쿼리가 나가지 않음
+    @Query("select a.id as id, a.title as title, a.author as author, a.createdAt as createdAt, a.version as version, "
+            + "substring(a.content, 1, " + ArticleSummary.EXCERPT_LENGTH + ") as excerpt "
+            + "from Article a where a.id > :after order by a.id asc")
+    List<ArticleSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    //내보내기용 -> 엔티티 대신 DTO로 조회해 페이지를 계속 넘겨도 메모리 사용량이 일정함
+    @Query("select new me.yoonblog.springbootdeveloper.dto.ArticleExportResponse("
+            + "a.id, a.title, a.content, a.author, a.createdAt, a.updatedAt) "
+            + "from Article a where a.id > :after order by a.id asc")
+    List<ArticleExportResponse> findExportRowsAfter(@Param("after") Long after, Pageable pageable);
 }
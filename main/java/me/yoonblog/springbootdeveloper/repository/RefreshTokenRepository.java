@@ -2,10 +2,45 @@ package me.yoonblog.springbootdeveloper.repository;
 
 import me.yoonblog.springbootdeveloper.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByUserId(Long userId);
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+    //token_hash 유니크 인덱스로 조회
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    //user_id 유니크 인덱스로 현재 토큰 해시만 조회 -> 엔티티를 만들지 않음
+    @Query("select r.tokenHash from RefreshToken r where r.userId = :userId")
+    Optional<String> findTokenHashByUserId(@Param("userId") Long userId);
+
+    //유저의 리프레시 토큰이 있으면 교체, 없으면 추가 -> 조회 없이 쿼리 한 번으로 처리
+    //표준 MERGE 문이라 H2와 PostgreSQL(15 이상)에서 모두 실행 가능
+    @Transactional
+    @Modifying
+    @Query(value = "MERGE INTO refresh_token t "
+            + "USING (SELECT CAST(:userId AS BIGINT) AS user_id, "
+            + "CAST(:tokenHash AS VARCHAR(43)) AS token_hash, "
+            + "CAST(:expiresAt AS TIMESTAMP) AS expires_at) s "
+            + "ON t.user_id = s.user_id "
+            + "WHEN MATCHED THEN UPDATE SET token_hash = s.token_hash, expires_at = s.expires_at "
+            + "WHEN NOT MATCHED THEN INSERT (user_id, token_hash, expires_at) "
+            + "VALUES (s.user_id, s.token_hash, s.expires_at)",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    //만료된 토큰을 최대 limit개만 삭제 -> 한 번에 지우는 행 수를 제한해 락을 짧게 유지
+    //expires_at 인덱스로 대상 ID를 고른 뒤 기본 키로 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE id IN ("
+            + "SELECT id FROM refresh_token WHERE expires_at < :now ORDER BY expires_at LIMIT :limit)",
+            nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
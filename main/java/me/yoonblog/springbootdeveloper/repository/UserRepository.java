@@ -2,9 +2,19 @@ package me.yoonblog.springbootdeveloper.repository;
 
 import me.yoonblog.springbootdeveloper.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email); //email로 사용자 정보를 가져옴
-}
\ No newline at end of file
+
+    //닉네임만 변경 -> 분리된 엔티티를 save()로 병합할 때의 재조회 없이 UPDATE 한 번으로 처리
+    @Transactional
+    @Modifying
+    @Query("update User u set u.nickname = :nickname where u.id = :id")
+    int updateNickname(@Param("id") Long id, @Param("nickname") String nickname);
+}
@@ -0,0 +1,348 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import lombok.RequiredArgsConstructor;
+import me.yoonblog.springbootdeveloper.domain.Article;
+import me.yoonblog.springbootdeveloper.dto.ArticleSearchHit;
+import me.yoonblog.springbootdeveloper.dto.ArticleSearchResponse;
+import me.yoonblog.springbootdeveloper.repository.BlogRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//글 제목/본문 전문 검색 -> 메모리에 역색인(단어 -> 글 ID별 빈도)을 두고 BM25로 점수를 매김
+//애플리케이션 시작 시 전체 글로 색인을 만들고, 이후에는 BlogService의 저장/수정/삭제에 맞춰 글 단위로 갱신
+@RequiredArgsConstructor
+@Service
+public class ArticleSearchService {
+    public static final int DEFAULT_PAGE_SIZE = 10;
+    public static final int MAX_PAGE_SIZE = 50;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int TITLE_BOOST = 3; //제목에 나온 단어는 본문보다 3배 가중치
+    private static final int SNIPPET_RADIUS = 60; //일치한 위치 앞뒤로 보여줄 글자 수
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    //검색 결과 순서 -> 점수 높은 순, 같으면 ID가 큰(최근) 글 먼저
+    private static final Comparator<Map.Entry<Long, Double>> RANK =
+            Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final BlogRepository blogRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    //진행 중인 rebuild()마다 그동안 들어온 변경 -> 새 색인으로 바꿀 때 다시 적용, 값이 null이면 삭제
+    private final List<Map<Long, Map<String, Integer>>> pendingChanges = new ArrayList<>();
+
+    //애플리케이션이 뜨면 전체 글을 id 순으로 나눠 읽어 색인 생성
+    //새 색인을 락 없이 따로 만든 뒤 쓰기 락 안에서 참조만 교체 -> 만드는 동안에도 기존 색인으로 검색/갱신 가능
+    //만드는 도중의 저장/수정/삭제는 이 rebuild()의 변경 목록에 모아 교체 직전에 적용 -> 먼저 읽은 이전 내용이 남지 않음
+    //동시에 여러 번 호출되어도 각자 변경 목록을 가지므로 어느 색인이 나중에 교체되어도 최신 내용을 담음
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, Map<String, Integer>> changes = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            pendingChanges.add(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index rebuilt = new Index();
+        try {
+            long after = 0L;
+            List<Article> articles;
+            do {
+                articles = blogRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                articles.forEach(article -> rebuilt.add(article.getId(), terms(article)));
+                if (!articles.isEmpty()) {
+                    after = articles.get(articles.size() - 1).getId();
+                }
+            } while (articles.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            //실패하면 기존 색인을 그대로 사용
+            lock.writeLock().lock();
+            try {
+                pendingChanges.remove(changes);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changes.forEach((id, terms) -> {
+                if (terms == null) {
+                    rebuilt.remove(id);
+                } else {
+                    rebuilt.add(id, terms);
+                }
+            });
+            index = rebuilt;
+            pendingChanges.remove(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //글을 색인에 추가, 이미 있는 글이면 기존 색인을 지우고 다시 추가
+    public void index(Article article) {
+        Map<String, Integer> terms = terms(article);
+
+        lock.writeLock().lock();
+        try {
+            index.add(article.getId(), terms);
+            pendingChanges.forEach(changes -> changes.put(article.getId(), terms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+            pendingChanges.forEach(changes -> changes.put(id, null));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //검색어와 일치하는 글을 점수 순으로 정렬해 page 번째 페이지를 반환
+    public ArticleSearchResponse search(String query, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty()) {
+            return new ArticleSearchResponse(0, pageNumber, pageSize, List.of());
+        }
+
+        Map<Long, Double> scores = score(queryTerms);
+        List<Map.Entry<Long, Double>> ranked = page(scores, pageNumber, pageSize);
+
+        //본문은 색인에 두지 않고 현재 페이지의 글만 조회해서 스니펫을 만듦
+        Map<Long, Article> articles = blogRepository.findAllById(ranked.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        List<ArticleSearchHit> hits = new ArrayList<>();
+        for (Map.Entry<Long, Double> entry : ranked) {
+            Article article = articles.get(entry.getKey());
+            if (article != null) {
+                hits.add(new ArticleSearchHit(article.getId(), article.getTitle(),
+                        snippet(article.getContent(), queryTerms), entry.getValue()));
+            }
+        }
+        return new ArticleSearchResponse(scores.size(), pageNumber, pageSize, hits);
+    }
+
+    //점수 높은 순(같으면 최근 글 순)으로 page 번째 페이지의 글
+    //모든 일치 결과를 정렬하지 않고 (page + 1) * size개만 담는 힙으로 상위 결과를 고름 -> O(n log k)
+    static List<Map.Entry<Long, Double>> page(Map<Long, Double> scores, int pageNumber, int pageSize) {
+        long offset = (long) pageNumber * pageSize;
+        if (offset >= scores.size()) {
+            return List.of();
+        }
+        int limit = (int) Math.min(offset + pageSize, scores.size());
+
+        //힙의 맨 앞은 지금까지 고른 것 중 가장 낮은 순위 -> 새 결과가 더 높으면 교체
+        Comparator<Map.Entry<Long, Double>> rank = RANK.reversed();
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit, rank);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (top.size() < limit) {
+                top.add(entry);
+            } else if (rank.compare(entry, top.peek()) > 0) {
+                top.poll();
+                top.add(entry);
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(RANK);
+        return ranked.subList((int) offset, ranked.size());
+    }
+
+    private Map<Long, Double> score(Set<String> queryTerms) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            int documentCount = index.documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) index.totalLength / documentCount;
+            for (String term : queryTerms) {
+                Map<Long, Integer> matches = index.postings.get(term);
+                if (matches == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+                matches.forEach((id, frequency) -> {
+                    double norm = K1 * (1 - B + B * index.documents.get(id).length() / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //제목/본문의 단어별 빈도 -> 제목 단어는 TITLE_BOOST배
+    private static Map<String, Integer> terms(Article article) {
+        Map<String, Integer> terms = new HashMap<>();
+        tokenize(article.getTitle()).forEach(term -> terms.merge(term, TITLE_BOOST, Integer::sum));
+        tokenize(article.getContent()).forEach(term -> terms.merge(term, 1, Integer::sum));
+        return terms;
+    }
+
+    //역색인 -> 잠금은 ArticleSearchService가 처리
+    private static class Index {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); //단어 -> (글 ID -> 빈도)
+        //글 ID -> 글의 단어 목록과 단어 수, 빈도는 postings에만 둠(삭제/수정 시 postings에서 지울 단어를 찾는 용도)
+        private final Map<Long, Document> documents = new HashMap<>();
+        private long totalLength;
+
+        void add(long id, Map<String, Integer> terms) {
+            remove(id);
+            int length = 0;
+            for (Map.Entry<String, Integer> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(id, term.getValue());
+                length += term.getValue();
+            }
+            documents.put(id, new Document(terms.keySet().toArray(String[]::new), length));
+            totalLength += length;
+        }
+
+        void remove(long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (String term : document.terms()) {
+                Map<Long, Integer> matches = postings.get(term);
+                matches.remove(id);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= document.length();
+        }
+    }
+
+    private record Document(String[] terms, int length) {
+    }
+
+    //문자/숫자 단위로 자른 뒤 소문자로 변환
+    //한글/한자/가나는 조사가 붙어도 찾을 수 있도록 두 글자씩 겹쳐 자름(바이그램)
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text != null) {
+            forEachTerm(lowerCase(text), (term, start) -> terms.add(term));
+        }
+        return terms;
+    }
+
+    //소문자 문자열의 단어(바이그램)와 시작 위치를 차례로 전달 -> 색인과 스니펫 강조가 같은 기준으로 자름
+    private static void forEachTerm(String lower, TermConsumer consumer) {
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerms(lower.substring(start, i), start, consumer);
+                start = -1;
+            }
+        }
+    }
+
+    private static void addTerms(String word, int offset, TermConsumer consumer) {
+        if (word.length() < 2 || word.codePoints().noneMatch(ArticleSearchService::isCjk)) {
+            consumer.accept(word, offset);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            consumer.accept(word.substring(i, i + 2), offset + i);
+        }
+    }
+
+    private interface TermConsumer {
+        void accept(String term, int start);
+    }
+
+    //글자 하나씩 소문자로 변환 -> String.toLowerCase()와 달리 길이가 바뀌지 않아('İ' -> "i̇" 등)
+    //소문자 문자열에서 찾은 위치를 원문에 그대로 쓸 수 있음
+    static String lowerCase(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    //첫 번째로 일치한 위치 주변을 잘라 HTML 이스케이프한 뒤 일치한 부분을 <em>으로 감쌈
+    //색인과 같은 기준으로 자른 단어 단위로 비교 -> "java"로 검색하면 "javascript"는 강조하지 않음
+    static String snippet(String content, Set<String> queryTerms) {
+        String lower = lowerCase(content); //content와 길이가 같음
+        List<int[]> ranges = new ArrayList<>();
+        forEachTerm(lower, (term, start) -> {
+            if (queryTerms.contains(term)) {
+                ranges.add(new int[]{start, start + term.length()});
+            }
+        });
+        if (ranges.isEmpty()) {
+            String head = content.substring(0, Math.min(content.length(), SNIPPET_RADIUS * 2));
+            return HtmlUtils.htmlEscape(head) + (head.length() < content.length() ? "…" : "");
+        }
+        //겹치거나 맞닿은 구간은 하나로 합침 -> 바이그램으로 나뉜 단어도 한 번에 강조
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+        List<int[]> merged = new ArrayList<>();
+        for (int[] range : ranges) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+
+        int start = Math.max(0, merged.get(0)[0] - SNIPPET_RADIUS);
+        int end = Math.min(content.length(), merged.get(0)[1] + SNIPPET_RADIUS);
+        StringBuilder builder = new StringBuilder(start > 0 ? "…" : "");
+        int position = start;
+        for (int[] range : merged) {
+            if (range[0] >= end) {
+                break;
+            }
+            int to = Math.min(range[1], end);
+            builder.append(HtmlUtils.htmlEscape(content.substring(position, range[0])))
+                    .append("<em>")
+                    .append(HtmlUtils.htmlEscape(content.substring(range[0], to)))
+                    .append("</em>");
+            position = to;
+        }
+        builder.append(HtmlUtils.htmlEscape(content.substring(position, end)));
+        if (end < content.length()) {
+            builder.append("…");
+        }
+        return builder.toString();
+    }
+}
@@ -1,65 +1,346 @@
 package me.yoonblog.springbootdeveloper.service;
 
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.yoonblog.springbootdeveloper.config.datasource.ReadReplica;
 import me.yoonblog.springbootdeveloper.domain.Article;
 import me.yoonblog.springbootdeveloper.dto.AddArticleRequest;
+import me.yoonblog.springbootdeveloper.dto.ArticleBatchRequest;
+import me.yoonblog.springbootdeveloper.dto.ArticleBatchResult;
+import me.yoonblog.springbootdeveloper.dto.ArticleExportResponse;
+import me.yoonblog.springbootdeveloper.dto.ArticleSummary;
+import me.yoonblog.springbootdeveloper.dto.CursorPage;
+import me.yoonblog.springbootdeveloper.dto.RenderedPage;
 import me.yoonblog.springbootdeveloper.dto.UpdateArticleRequest;
+import me.yoonblog.springbootdeveloper.exception.NotFoundException;
+import me.yoonblog.springbootdeveloper.exception.PreconditionFailedException;
+import me.yoonblog.springbootdeveloper.exception.UnauthorizedException;
 import me.yoonblog.springbootdeveloper.repository.BlogRepository;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import me.yoonblog.springbootdeveloper.util.MetricsUtil;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
+@Slf4j
 @RequiredArgsConstructor //final이 붙거나 @NotNull이 붙은 필드의 생성자 추가
 @Service //해당 클래스를 서블릿 컨테이너에 빈으로 등록
 public class BlogService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int EXPORT_FETCH_SIZE = 500;
+    public static final int MAX_BATCH_OPERATIONS = 5_000;
+    public static final int BATCH_CHUNK_SIZE = 500;
+
     private final BlogRepository blogRepository;
+    private final ExpiringCache<Long, Article> articleCache;
+    private final ExpiringCache<Long, RenderedPage> articlePageCache;
+    private final ArticleSearchService articleSearchService;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
 
     //블로그 글 추가 메서드
     //toEntity()의 인수로 전달받은 유저 이름을 반환
+    @Transactional
     public Article save(AddArticleRequest request, String userName) {
-        //save() -> JpaRepository에서 지원, AddArticleRequest 클래스에 저장된 값들을 article 데이터베이스에 저장
-        return blogRepository.save(request.toEntity(userName));
+        return timed("save", () -> {
+            //save() -> JpaRepository에서 지원, AddArticleRequest 클래스에 저장된 값들을 article 데이터베이스에 저장
+            Article article = blogRepository.save(request.toEntity(userName));
+            runAfterCommit(() -> articleSearchService.index(article));
+
+            return article;
+        });
     }
 
     //블로그 글 목록 조회 메서드
-    public List<Article> findAll() {
-        return blogRepository.findAll();
+    //after(이전 페이지의 마지막 글 ID) 이후의 글을 limit 개수만큼 조회 -> 커서 기반 페이지네이션
+    //다음 페이지 존재 여부를 알기 위해 limit + 1개를 조회
+    //본문 전체가 아닌 요약(프로젝션)만 읽기 전용 트랜잭션에서 조회
+    //목록은 캐시하지 않고 복제 지연이 잠시 보여도 되므로 읽기 전용 DB에서 조회
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSummary> findAll(Long after, int limit) {
+        return timed("findAll", () -> {
+            int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+            List<ArticleSummary> articles = ReadReplica.call(() -> blogRepository.findSummariesAfter(
+                    after == null ? 0L : after, PageRequest.of(0, size + 1)));
+
+            if (articles.size() <= size) {
+                return new CursorPage<>(articles, null);
+            }
+            List<ArticleSummary> page = articles.subList(0, size);
+            return new CursorPage<>(page, page.get(size - 1).getId());
+        });
+    }
+
+    //내보내기용 글 조회 메서드
+    //after 이후의 글을 EXPORT_FETCH_SIZE 개수만큼 본문까지 읽기 전용 DB에서 조회
+    @Transactional(readOnly = true)
+    public List<ArticleExportResponse> findExportPage(long after) {
+        return timed("findExportPage", () -> ReadReplica.call(() ->
+                blogRepository.findExportRowsAfter(after, PageRequest.of(0, EXPORT_FETCH_SIZE))));
     }
 
     //블로그 글 조회 메서드
+    //캐시에 없을 때만 데이터베이스에서 조회(read-through)
+    //캐시 적중 시 트랜잭션과 커넥션을 쓰지 않도록 메서드 전체는 트랜잭션으로 묶지 않음
+    //캐시 미스일 때의 조회는 ReadReplica로 감싸지 않으므로 주 DB에서 실행
+    //-> 읽기 전용 DB의 복제 지연으로 수정 전 글이 캐시에 다시 채워지지 않음
     public Article findById(long id) {
-        return blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        return timed("findById", () -> {
+            Article article = articleCache.get(id, key -> blogRepository.findById(key).orElse(null));
+            if (article == null) {
+                throw new NotFoundException("not found: " + id);
+            }
+            return article;
+        });
     }
 
     //블로그 글 삭제 메서드
+    //조회, 권한 확인, 삭제를 하나의 트랜잭션으로 처리
+    @Transactional
     public void delete(long id) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        timed("delete", () -> {
+            Article article = blogRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("not found: " + id));
 
-        authorizeArticleAuthor(article);
-        blogRepository.delete(article);
+            authorizeArticleAuthor(article);
+            blogRepository.delete(article);
+            evictArticle(id);
+            runAfterCommit(() -> articleSearchService.remove(id));
+            return null;
+        });
     }
 
     //블로그 글 수정 메서드
     @Transactional //해당 애너테이션은 매칭한 메서드를 하나의 트랜잭션으로 묶음
     public Article update(long id, UpdateArticleRequest request) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found : " + id));
+        return update(id, request, null);
+    }
+
+    //expectedVersion : 클라이언트가 읽은 글 버전(If-Match), null이면 확인하지 않음
+    //트랜잭션 안에서 읽은 글과 비교 -> 읽은 뒤 커밋 전에 다른 요청이 수정하면 @Version이 커밋을 막음
+    @Transactional
+    public Article update(long id, UpdateArticleRequest request, Long expectedVersion) {
+        return timed("update", () -> {
+            Article article = blogRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("not found : " + id));
+
+            authorizeArticleAuthor(article);
+            if (expectedVersion != null && expectedVersion != article.getVersion()) {
+                throw new PreconditionFailedException("version mismatch : " + id);
+            }
+            article.update(request.getTitle(), request.getContent());
+            evictArticle(id);
+            runAfterCommit(() -> articleSearchService.index(article));
+
+            return article;
+        });
+    }
+
+    //여러 글을 한 번에 추가/수정/삭제하는 메서드
+    //BATCH_CHUNK_SIZE개씩 나눠 청크마다 하나의 트랜잭션으로 처리 -> 청크 안의 INSERT/UPDATE/DELETE는 JDBC 배치로 전송
+    //작업별 결과를 요청 순서대로 반환, 한 청크가 DB 오류로 실패해도 다른 청크는 그대로 반영
+    public List<ArticleBatchResult> applyBatch(List<ArticleBatchRequest.Operation> operations, String userName) {
+        return timed("applyBatch", () -> {
+            if (operations.size() > MAX_BATCH_OPERATIONS) {
+                throw new IllegalArgumentException("too many operations: " + operations.size());
+            }
+
+            List<ArticleBatchResult> results = new ArrayList<>(operations.size());
+            for (int from = 0; from < operations.size(); from += BATCH_CHUNK_SIZE) {
+                int to = Math.min(from + BATCH_CHUNK_SIZE, operations.size());
+                results.addAll(applyChunk(operations, from, to, userName));
+            }
+            return results;
+        });
+    }
+
+    //operations[from, to)를 하나의 트랜잭션으로 처리
+    //DB 오류로 실패하면 청크 전체가 롤백되므로 청크의 모든 작업을 FAILED와 실패 이유로 응답하고 로그를 남김
+    //DB 오류가 아닌 예외(코드 오류 등)는 그대로 던짐 -> 500
+    private List<ArticleBatchResult> applyChunk(List<ArticleBatchRequest.Operation> operations,
+                                                int from, int to, String userName) {
+        try {
+            return transactionTemplate.execute(status -> {
+                //수정/삭제할 글을 청크마다 한 번에 조회
+                Set<Long> ids = new HashSet<>();
+                for (int i = from; i < to; i++) {
+                    Long id = operations.get(i).getId();
+                    if (id != null) {
+                        ids.add(id);
+                    }
+                }
+                Map<Long, Article> articles = new HashMap<>();
+                for (Article article : blogRepository.findAllById(ids)) {
+                    articles.put(article.getId(), article);
+                }
+
+                List<ArticleBatchResult> results = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    results.add(applyOperation(i, operations.get(i), articles, userName));
+                }
+
+                //남은 변경을 배치로 전송하고 영속성 컨텍스트를 비움 -> 청크가 지나도 메모리가 늘지 않음
+                entityManager.flush();
+                entityManager.clear();
+                return results;
+            });
+        } catch (DataAccessException | TransactionException | PersistenceException e) {
+            String reason = failureReason(e);
+            log.warn("article batch chunk [{}, {}) rolled back: {}", from, to, reason, e);
+
+            List<ArticleBatchResult> results = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ArticleBatchRequest.Operation operation = operations.get(i);
+                results.add(new ArticleBatchResult(i, operation.getType(), operation.getId(),
+                        ArticleBatchResult.Status.FAILED, reason));
+            }
+            return results;
+        }
+    }
+
+    //청크 실패 이유 -> 호출한 쪽이 재시도할지 판단할 수 있도록 구분
+    //entityManager.flush()의 예외는 스프링 예외로 변환되지 않으므로 변환한 뒤 구분
+    private static String failureReason(RuntimeException e) {
+        RuntimeException error = e;
+        if (e instanceof PersistenceException persistenceException) {
+            DataAccessException translated = EntityManagerFactoryUtils.convertJpaAccessExceptionIfPossible(persistenceException);
+            if (translated != null) {
+                error = translated;
+            }
+        }
+
+        if (error instanceof DataIntegrityViolationException) {
+            return "constraint-violation";
+        }
+        if (error instanceof OptimisticLockingFailureException) {
+            return "conflict"; //다른 요청이 같은 글을 먼저 수정
+        }
+        if (error instanceof TransientDataAccessException || error instanceof DataAccessResourceFailureException
+                || error instanceof CannotCreateTransactionException) {
+            return "database-unavailable";
+        }
+        return "database-error";
+    }
+
+    //작업 하나를 처리, 검증에 실패한 작업은 예외 대신 결과로 알려 같은 청크의 다른 작업은 계속 진행
+    private ArticleBatchResult applyOperation(int index, ArticleBatchRequest.Operation operation,
+                                              Map<Long, Article> articles, String userName) {
+        ArticleBatchRequest.Type type = operation.getType();
+        Long id = operation.getId();
+        if (type == null) {
+            return new ArticleBatchResult(index, null, id, ArticleBatchResult.Status.INVALID);
+        }
 
-        authorizeArticleAuthor(article);
-        article.update(request.getTitle(), request.getContent());
+        if (type == ArticleBatchRequest.Type.CREATE) {
+            if (operation.getTitle() == null || operation.getContent() == null) {
+                return new ArticleBatchResult(index, type, null, ArticleBatchResult.Status.INVALID);
+            }
+            //시퀀스에서 미리 받아둔 ID를 바로 할당, INSERT는 flush 시점에 배치로 실행
+            Article article = blogRepository.save(operation.toEntity(userName));
+            runAfterCommit(() -> articleSearchService.index(article));
+            return new ArticleBatchResult(index, type, article.getId(), ArticleBatchResult.Status.CREATED);
+        }
+
+        if (id == null
+                || (type == ArticleBatchRequest.Type.UPDATE
+                && (operation.getTitle() == null || operation.getContent() == null))) {
+            return new ArticleBatchResult(index, type, id, ArticleBatchResult.Status.INVALID);
+        }
+        Article article = articles.get(id);
+        if (article == null) {
+            return new ArticleBatchResult(index, type, id, ArticleBatchResult.Status.NOT_FOUND);
+        }
+        if (!article.getAuthor().equals(userName)) {
+            return new ArticleBatchResult(index, type, id, ArticleBatchResult.Status.UNAUTHORIZED);
+        }
 
-        return article;
+        evictArticle(id);
+        if (type == ArticleBatchRequest.Type.UPDATE) {
+            article.update(operation.getTitle(), operation.getContent());
+            runAfterCommit(() -> articleSearchService.index(article));
+            return new ArticleBatchResult(index, type, id, ArticleBatchResult.Status.UPDATED);
+        }
+        blogRepository.delete(article);
+        articles.remove(id); //같은 청크에서 다시 수정/삭제하면 NOT_FOUND
+        runAfterCommit(() -> articleSearchService.remove(id));
+        return new ArticleBatchResult(index, type, id, ArticleBatchResult.Status.DELETED);
+    }
+
+    //메서드 실행 시간을 결과별로 기록 -> blog.service{method, outcome=success|not-found|unauthorized|error}
+    private <T> T timed(String method, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricsUtil.SUCCESS;
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = MetricsUtil.outcome(e);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("blog.service", "method", method, "outcome", outcome));
+        }
+    }
+
+    //캐시에서 글과 렌더링한 글 페이지를 제거
+    //트랜잭션 안이라면 커밋이 끝난 뒤에 한 번 더 제거 -> 커밋 전에 옛 값을 읽어간 조회가 캐시에 남지 않음
+    private void evictArticle(long id) {
+        articleCache.invalidate(id);
+        articlePageCache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    articleCache.invalidate(id);
+                    articlePageCache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    //트랜잭션 안이면 커밋된 뒤에 실행, 트랜잭션 밖이면 바로 실행
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     //게시글을 작성한 유저인지 확인
     private static void authorizeArticleAuthor(Article article) {
         String userName = SecurityContextHolder.getContext().getAuthentication().getName();
         if (!article.getAuthor().equals(userName)) {
-            throw new IllegalArgumentException("not authorized");
+            throw new UnauthorizedException("not authorized");
         }
     }
 }
@@ -2,17 +2,46 @@ package me.yoonblog.springbootdeveloper.service;
 
 import lombok.RequiredArgsConstructor;
 import me.yoonblog.springbootdeveloper.domain.RefreshToken;
+import me.yoonblog.springbootdeveloper.exception.InvalidTokenException;
 import me.yoonblog.springbootdeveloper.repository.RefreshTokenRepository;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
+    private final ExpiringCache<Long, String> refreshTokenCache;
 
     //전달받은 리프레시 토큰으로 리프레시 토큰 객체를 검색해서 전달
+    //토큰 원문이 아닌 해시값으로 조회
     public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+        return refreshTokenRepository.findByTokenHash(RefreshToken.hash(refreshToken))
+                .orElseThrow(() -> new InvalidTokenException("Unexpected token"));
+    }
+
+    //전달받은 리프레시 토큰이 해당 유저의 현재 토큰인지 확인
+    //유저별 현재 토큰 해시를 캐시에서 먼저 찾고, 없을 때만 user_id 인덱스로 한 번 조회
+    public boolean isCurrent(Long userId, String refreshToken) {
+        String currentHash = refreshTokenCache.get(userId,
+                id -> refreshTokenRepository.findTokenHashByUserId(id).orElse(null));
+        return RefreshToken.hash(refreshToken).equals(currentHash);
+    }
+
+    //유저의 리프레시 토큰을 만료 시간과 함께 저장(없으면 추가, 있으면 교체)
+    //같은 유저가 동시에 처음 로그인하면 두 MERGE가 모두 추가를 시도해 user_id 유니크 제약에 걸릴 수 있음
+    //이때는 이미 행이 생겼으므로 한 번 더 실행하면 교체로 처리됨
+    public void saveRefreshToken(Long userId, String refreshToken, LocalDateTime expiresAt) {
+        String tokenHash = RefreshToken.hash(refreshToken);
+        try {
+            refreshTokenRepository.upsert(userId, tokenHash, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            refreshTokenRepository.upsert(userId, tokenHash, expiresAt);
+        }
+        //교체 전 토큰이 캐시에 남아 계속 통과하지 않도록 제거
+        refreshTokenCache.invalidate(userId);
     }
 }
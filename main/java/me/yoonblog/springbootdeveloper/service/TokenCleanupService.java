@@ -0,0 +1,85 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.yoonblog.springbootdeveloper.config.TokenCleanupProperties;
+import me.yoonblog.springbootdeveloper.repository.RefreshTokenRepository;
+import me.yoonblog.springbootdeveloper.util.MetricsUtil;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+//만료된 리프레시 토큰을 주기적으로 삭제
+//행을 한 번에 지우지 않고 chunkSize개씩 나눠 지움 -> 트랜잭션과 락이 짧아 인증 요청을 오래 막지 않음
+@Service
+public class TokenCleanupService {
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenCleanupProperties properties;
+    private final MeterRegistry meterRegistry;
+    //삭제한 행 수 -> token.cleanup.deleted
+    private final Counter deletedCounter;
+
+    public TokenCleanupService(RefreshTokenRepository refreshTokenRepository,
+                               TokenCleanupProperties properties, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.deletedCounter = meterRegistry.counter("token.cleanup.deleted");
+    }
+
+    //작업 간격은 TokenCleanupProperties.interval(token.cleanup.interval)에서 읽음
+    @Scheduled(initialDelayString = "#{@tokenCleanupProperties.interval.toMillis()}",
+            fixedDelayString = "#{@tokenCleanupProperties.interval.toMillis()}")
+    public void scheduledPurge() {
+        if (properties.isEnabled()) {
+            purgeExpired();
+        }
+    }
+
+    //지금 기준으로 만료된 토큰을 삭제하고 삭제한 행 수를 반환
+    //작업 시간은 결과별로 기록 -> token.cleanup{outcome=success|error}
+    public int purgeExpired() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricsUtil.SUCCESS;
+        try {
+            return purgeExpired(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            outcome = MetricsUtil.outcome(e);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("token.cleanup", "outcome", outcome));
+        }
+    }
+
+    private int purgeExpired(LocalDateTime now) {
+        int chunkSize = properties.getChunkSize();
+        int total = 0;
+        for (int chunk = 0; chunk < properties.getMaxChunks(); chunk++) {
+            //DELETE마다 별도 트랜잭션으로 커밋됨
+            int deleted = refreshTokenRepository.deleteExpired(now, chunkSize);
+            total += deleted;
+            deletedCounter.increment(deleted);
+            if (deleted < chunkSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    //다음 DELETE 전까지 쉼, 종료 등으로 인터럽트되면 false를 반환해 작업을 멈춤
+    private boolean pause() {
+        long millis = properties.getPause().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package me.yoonblog.springbootdeveloper.service;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import me.yoonblog.springbootdeveloper.config.jwt.ParsedToken;
 import me.yoonblog.springbootdeveloper.config.jwt.TokenProvider;
-import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.exception.InvalidTokenException;
+import me.yoonblog.springbootdeveloper.util.MetricsUtil;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -12,19 +17,35 @@ import java.time.Duration;
 public class TokenService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final UserService userService;
+    private final MeterRegistry meterRegistry;
 
     //전달받은 리프레시 토큰으로 토큰 유효성 검사를 진행
-    //유효한 토큰이라면 리프레시 토큰으로 사용자 ID를 검색 후 토큰 제공자의 generateToken() 메서드를 호출해 새로운 액세스 토큰 생성
+    //유효한 토큰이라면 서명이 검증된 클레임에서 사용자 ID와 이메일을 꺼내 새로운 액세스 토큰 생성
+    //DB는 이 토큰이 아직 유저의 현재 리프레시 토큰인지 확인할 때만 사용(캐시 적중 시 조회 없음)
+    //처리 시간은 결과별로 기록 -> token.refresh{outcome=success|invalid-token}
     public String createNewAccessToken(String refreshToken) {
-        //토큰 유효성 검사에 실패한 경우 예외를 발생
-        if (!tokenProvider.validToken(refreshToken)) {
-            throw new IllegalArgumentException("Unexpected token");
-        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricsUtil.SUCCESS;
+        try {
+            //토큰 유효성 검사에 실패한 경우 예외를 발생
+            ParsedToken parsed = tokenProvider.parse(refreshToken);
+            if (!parsed.isValid()) {
+                throw new InvalidTokenException("Unexpected token");
+            }
 
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
-        User user = userService.findById(userId);
+            Claims claims = parsed.getClaims();
+            Long userId = claims.get("id", Long.class);
+            //다시 로그인해 교체된 이전 토큰이면 예외를 발생
+            if (userId == null || !refreshTokenService.isCurrent(userId, refreshToken)) {
+                throw new InvalidTokenException("Unexpected token");
+            }
 
-        return tokenProvider.generateToken(user, Duration.ofHours(2));
+            return tokenProvider.generateToken(userId, claims.getSubject(), Duration.ofHours(2));
+        } catch (RuntimeException e) {
+            outcome = MetricsUtil.outcome(e);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("token.refresh", "outcome", outcome));
+        }
     }
 }
@@ -2,7 +2,6 @@ package me.yoonblog.springbootdeveloper.service;
 
 import lombok.RequiredArgsConstructor;
 import me.yoonblog.springbootdeveloper.domain.User;
-import me.yoonblog.springbootdeveloper.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
@@ -11,12 +10,12 @@ import org.springframework.stereotype.Service;
 //스프링 시큐리티에서 사용자 정보를 가져오는 인터페이스
 public class UserDetailService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserService userService;
 
     //사용자 이름(email)으로 사용자의 정보를 가져오는 메서드
+    //UserService의 유저 캐시를 함께 사용 -> 같은 유저가 다시 로그인하면 DB를 조회하지 않음
     @Override
     public User loadUserByUsername(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException(email));
+        return userService.findByEmail(email);
     }
 }
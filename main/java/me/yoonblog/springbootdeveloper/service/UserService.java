@@ -1,35 +1,69 @@
 package me.yoonblog.springbootdeveloper.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import me.yoonblog.springbootdeveloper.config.PasswordHashExecutor;
 import me.yoonblog.springbootdeveloper.dto.AddUserRequest;
 import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.exception.NotFoundException;
 import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final MeterRegistry meterRegistry;
+    //ID, 이메일로 조회한 유저 캐시 -> 조회한 키의 캐시에만 저장, 유저가 수정되면 evict()로 둘 다 제거
+    //다른 키의 캐시에 함께 넣으면 조회 도중의 evict()를 generation으로 막지 못해 이전 유저가 남을 수 있음
+    private final ExpiringCache<Long, User> userByIdCache;
+    private final ExpiringCache<String, User> userByEmailCache;
 
-    public Long save(AddUserRequest dto) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-
-        return userRepository.save(User.builder()
+    //패스워드 해시와 저장을 해시 전용 스레드 풀에서 실행하고 저장한 유저 ID를 비동기로 반환
+    //풀의 대기열이 가득 차면 바로 RejectedExecutionException을 던짐
+    public CompletableFuture<Long> save(AddUserRequest dto) {
+        return passwordHashExecutor.supplyAsync(() -> userRepository.save(User.builder()
                 .email(dto.getEmail())
-                .password(encoder.encode(dto.getPassword())) //패스워드는 암호화
-                .build()).getId();
+                .password(encode(dto.getPassword())) //패스워드는 암호화
+                .build()).getId());
     }
 
     //전달받은 유저 ID로 유저를 검색해서 전달
+    //캐시에 없을 때만 데이터베이스에서 조회(read-through)
     public User findById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
+        User user = userByIdCache.get(userId, id -> userRepository.findById(id).orElse(null));
+        if (user == null) {
+            throw new NotFoundException("Unexpected user");
+        }
+        return user;
     }
 
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Unexpected user"));
+        User user = userByEmailCache.get(email, key -> userRepository.findByEmail(key).orElse(null));
+        if (user == null) {
+            throw new NotFoundException("Unexpected user");
+        }
+        return user;
+    }
+
+    //유저 정보가 바뀌었을 때 캐시에서 제거
+    public void evict(User user) {
+        userByIdCache.invalidate(user.getId());
+        userByEmailCache.invalidate(user.getEmail());
+    }
+
+    //해시 시간 기록 -> password.hash
+    private String encode(String rawPassword) {
+        return Timer.builder("password.hash")
+                .register(meterRegistry)
+                .record(() -> bCryptPasswordEncoder.encode(rawPassword));
     }
 }
@@ -0,0 +1,235 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import me.yoonblog.springbootdeveloper.config.ViewCountProperties;
+import me.yoonblog.springbootdeveloper.util.MetricsUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//글 조회수를 메모리에서 세고 주기적으로 모아서 데이터베이스에 반영(write-behind)
+//조회마다 UPDATE하지 않으므로 페이지 응답이 article 테이블의 행 락을 기다리지 않음
+//글마다 LongAdder를 사용 -> 같은 글을 여러 스레드가 동시에 조회해도 경합이 적음
+//데이터베이스에 반영된 조회수도 글마다 메모리에 두고 반영할 때마다 다시 읽음 -> 엔티티 캐시의 옛 조회수를 쓰지 않고,
+//다른 노드가 반영한 조회수도 다음 반영부터 포함
+@Service
+public class ViewCountService {
+    private static final String UPDATE_SQL = "UPDATE article SET view_count = view_count + ? WHERE id = ?";
+    private static final String SELECT_SQL = "SELECT view_count FROM article WHERE id = ?";
+    private static final String SELECT_IN_SQL = "SELECT id, view_count FROM article WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ViewCountProperties properties;
+    private final MeterRegistry meterRegistry;
+    //조회 중인 글의 조회수 -> key : 글 ID
+    private final Map<Long, ViewCount> counts = new ConcurrentHashMap<>();
+    //반영한 조회수 -> view.count.flushed
+    private final Counter flushedCounter;
+    //지난 반영에서 맵에서 뺀 글 -> 빼기 직전에 참조를 얻은 increment()의 증가분을 이번 반영에 포함, flush()의 락 안에서만 사용
+    private List<Retired> retired = new ArrayList<>();
+
+    public ViewCountService(JdbcTemplate jdbcTemplate, ViewCountProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.flushedCounter = meterRegistry.counter("view.count.flushed");
+        meterRegistry.gaugeMapSize("view.count.pending", List.of(), counts);
+    }
+
+    //조회수 1 증가 -> 메모리에만 더함
+    public void increment(Long articleId) {
+        viewCount(articleId).pending.increment();
+    }
+
+    //데이터베이스에 반영된 조회수에 아직 반영하지 않은 조회수를 더해 반환
+    //반영된 조회수는 처음 조회할 때와 반영할 때마다 데이터베이스에서 읽음 -> 반영 전후로 값이 줄어들지 않음
+    public long count(Long articleId) {
+        ViewCount count = viewCount(articleId);
+        if (count.persisted < 0) {
+            loadPersisted(articleId, count);
+        }
+        return count.read();
+    }
+
+    private ViewCount viewCount(Long articleId) {
+        ViewCount count = counts.get(articleId);
+        return count != null ? count : counts.computeIfAbsent(articleId, id -> new ViewCount());
+    }
+
+    //반영 도중에 읽으면 같은 증가분이 두 번 더해질 수 있으므로 flush()와 같은 락에서 읽음
+    //글이 없으면(삭제된 글) 0
+    private synchronized void loadPersisted(Long articleId, ViewCount count) {
+        if (count.persisted < 0) {
+            List<Long> persisted = jdbcTemplate.queryForList(SELECT_SQL, Long.class, articleId);
+            count.persisted = persisted.isEmpty() ? 0 : persisted.get(0);
+        }
+    }
+
+    @Scheduled(initialDelayString = "#{@viewCountProperties.flushInterval.toMillis()}",
+            fixedDelayString = "#{@viewCountProperties.flushInterval.toMillis()}")
+    public void scheduledFlush() {
+        if (properties.isEnabled()) {
+            flush();
+        }
+    }
+
+    //종료 전에 남은 조회수를 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    //모아둔 조회수를 batchSize개씩 묶은 UPDATE로 반영하고 반영한 글 수를 반환
+    //반영 시간은 결과별로 기록 -> view.count.flush{outcome=success|error}
+    public synchronized int flush() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricsUtil.SUCCESS;
+        try {
+            return flushPending();
+        } catch (RuntimeException e) {
+            outcome = MetricsUtil.outcome(e);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("view.count.flush", "outcome", outcome));
+        }
+    }
+
+    private int flushPending() {
+        List<Drained> drained = new ArrayList<>();
+        //지난 반영에서 뺀 글에 늦게 더해진 증가분
+        List<Retired> retiring = retired;
+        for (Retired entry : retiring) {
+            long delta = entry.count().drain();
+            if (delta > 0) {
+                drained.add(new Drained(entry.articleId(), entry.count(), delta));
+            }
+        }
+        //지난 반영 이후 조회가 없던 글은 맵에서 빼 맵 크기를 조회 중인 글 수로 유지
+        //빼기 직전에 참조를 얻은 increment()가 있을 수 있으므로 바로 버리지 않고 다음 반영 때 한 번 더 비운 뒤 버림
+        List<Retired> idle = new ArrayList<>();
+        for (Map.Entry<Long, ViewCount> entry : counts.entrySet()) {
+            long delta = entry.getValue().drain();
+            if (delta > 0) {
+                drained.add(new Drained(entry.getKey(), entry.getValue(), delta));
+            } else if (counts.remove(entry.getKey(), entry.getValue())) {
+                idle.add(new Retired(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Drained> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch.stream()
+                        .map(delta -> new Object[]{delta.delta(), delta.articleId()})
+                        .toList());
+            } catch (RuntimeException e) {
+                //반영하지 못한 조회수는 되돌려 다음 반영 때 재시도, 뺀 글의 증가분도 다음 반영 때 다시 비움
+                drained.subList(from, drained.size()).forEach(delta -> delta.count().restore(delta.delta()));
+                List<Retired> pending = new ArrayList<>(retiring);
+                pending.addAll(idle);
+                retired = pending;
+                throw e;
+            }
+            batch.forEach(delta -> flushedCounter.increment(delta.delta()));
+        }
+        retired = idle;
+
+        refreshPersisted();
+        return drained.size();
+    }
+
+    //메모리에 있는 글의 반영된 조회수를 batchSize개씩 다시 읽음
+    //방금 반영한 증가분은 drain()에서 이미 persisted에 더했고, 다시 읽은 값에는 다른 노드가 반영한 증가분도 포함됨
+    //반영한 뒤에 더해진 pending은 데이터베이스에 없으므로 persisted만 바꾸면 두 번 더해지지 않음
+    private void refreshPersisted() {
+        List<Map.Entry<Long, ViewCount>> loaded = counts.entrySet().stream()
+                .filter(entry -> entry.getValue().persisted >= 0)
+                .toList();
+
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < loaded.size(); from += batchSize) {
+            List<Map.Entry<Long, ViewCount>> batch = loaded.subList(from, Math.min(from + batchSize, loaded.size()));
+            Map<Long, ViewCount> byId = new HashMap<>();
+            batch.forEach(entry -> byId.put(entry.getKey(), entry.getValue()));
+
+            String sql = String.format(SELECT_IN_SQL, String.join(", ", Collections.nCopies(batch.size(), "?")));
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> byId.get(rs.getLong(1)).refresh(rs.getLong(2)),
+                    byId.keySet().toArray());
+        }
+    }
+
+    private record Drained(Long articleId, ViewCount count, long delta) {
+    }
+
+    private record Retired(Long articleId, ViewCount count) {
+    }
+
+    //글 하나의 조회수 = persisted(반영된 조회수) + pending(아직 반영하지 않은 조회수)
+    //반영할 때 pending에서 persisted로 옮기는 도중에 읽으면 증가분이 빠지거나 두 번 더해질 수 있음
+    //-> 옮기는 동안 seq를 홀수로 두고, 읽는 쪽은 seq가 홀수이거나 읽는 사이에 바뀌었으면 다시 읽음(읽기는 락 없음)
+    //seq, persisted는 flush()/loadPersisted()의 락 안에서만 바뀜
+    private static final class ViewCount {
+        private final LongAdder pending = new LongAdder();
+        private volatile long persisted = -1; //-1 : 아직 데이터베이스에서 읽지 않음
+        private volatile long seq;
+
+        long read() {
+            while (true) {
+                long before = seq;
+                if ((before & 1) == 0) {
+                    long count = persisted + pending.sum();
+                    if (seq == before) {
+                        return count;
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        //pending을 persisted로 옮기고 옮긴 값을 반환
+        //persisted를 아직 읽지 않았으면 나중에 읽을 때 반영된 값이 포함되므로 pending만 비움
+        long drain() {
+            seq++;
+            long delta = pending.sumThenReset();
+            if (persisted >= 0) {
+                persisted += delta;
+            }
+            seq++;
+            return delta;
+        }
+
+        //데이터베이스에서 다시 읽은 반영된 조회수로 바꿈, 줄어드는 값은 무시해 count()가 줄어들지 않도록 함
+        void refresh(long value) {
+            if (value <= persisted) {
+                return;
+            }
+            seq++;
+            persisted = value;
+            seq++;
+        }
+
+        //drain()을 되돌림
+        void restore(long delta) {
+            seq++;
+            pending.add(delta);
+            if (persisted >= 0) {
+                persisted -= delta;
+            }
+            seq++;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package me.yoonblog.springbootdeveloper.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class DigestUtil {
+
+    //문자열을 SHA-256으로 해시한 뒤 URL-safe Base64(패딩 없음, 43자)로 변환하는 메서드
+    //토큰 원문 대신 고정 길이 해시값을 키로 쓰기 위해 사용
+    public static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) { //모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package me.yoonblog.springbootdeveloper.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+//크기와 TTL로 항목을 제거하는 인메모리 캐시
+//최대 개수를 넘으면 가장 오래 사용하지 않은 항목(LRU)부터 제거, TTL이 지난 항목은 조회 시점에 제거
+public class ExpiringCache<K, V> {
+    //키를 나누는 구간 수(2의 거듭제곱) -> invalidate(key)는 같은 구간의 조회만 버림
+    private static final int GENERATION_STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //무효화 전에 시작한 조회 결과가 캐시에 다시 들어가는 것을 막음
+    //키 구간별 세대는 invalidate(key)마다, 전체 세대는 invalidateAll()마다 증가
+    //-> 한 글을 수정해도 다른 글의 조회 결과는 그대로 저장(구간이 겹치는 키만 다시 조회)
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private long allGeneration;
+
+    public ExpiringCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        //accessOrder = true : 조회한 항목을 맨 뒤로 옮김 -> 맨 앞이 가장 오래 사용하지 않은 항목
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    //캐시에 있으면 반환, 없거나 만료되었으면 null 반환
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    //캐시에 없으면 loader로 조회한 뒤 저장(read-through), loader가 null을 반환하면 저장하지 않음
+    //loader는 락 밖에서 실행 -> 느린 조회가 다른 키의 조회를 막지 않음
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        int stripe = stripe(key);
+        long observed;
+        long observedAll;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            observed = generations[stripe];
+            observedAll = allGeneration;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (generations[stripe] == observed && allGeneration == observedAll) {
+                    entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+                }
+            }
+        }
+        return value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    //expiresAt과 TTL 중 먼저 오는 시점에 만료
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        long now = System.nanoTime();
+        long untilExpiry = Duration.between(Instant.now(), expiresAt).toNanos();
+        if (untilExpiry <= 0) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, now + Math.min(ttlNanos, untilExpiry)));
+    }
+
+    public synchronized void invalidate(K key) {
+        generations[stripe(key)]++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        allGeneration++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private static int stripe(Object key) {
+        int hash = Objects.hashCode(key);
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
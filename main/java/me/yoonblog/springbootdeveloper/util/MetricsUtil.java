@@ -0,0 +1,35 @@
+package me.yoonblog.springbootdeveloper.util;
+
+import me.yoonblog.springbootdeveloper.exception.InvalidTokenException;
+import me.yoonblog.springbootdeveloper.exception.NotFoundException;
+import me.yoonblog.springbootdeveloper.exception.PreconditionFailedException;
+import me.yoonblog.springbootdeveloper.exception.UnauthorizedException;
+
+import java.util.Locale;
+
+public class MetricsUtil {
+    public static final String SUCCESS = "success";
+
+    //서비스에서 던진 예외를 메트릭 outcome 태그 값으로 변환하는 메서드
+    //예외 타입으로 실패 이유를 구분 -> 메시지 문구가 바뀌어도 태그 값은 그대로
+    public static String outcome(RuntimeException e) {
+        if (e instanceof NotFoundException) {
+            return "not-found";
+        }
+        if (e instanceof UnauthorizedException) {
+            return "unauthorized";
+        }
+        if (e instanceof InvalidTokenException) {
+            return "invalid-token";
+        }
+        if (e instanceof PreconditionFailedException) {
+            return "precondition-failed";
+        }
+        return "error";
+    }
+
+    //BAD_SIGNATURE -> bad-signature
+    public static String outcome(Enum<?> status) {
+        return status.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,73 @@
+package me.yoonblog.springbootdeveloper.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+//키(사용자, IP 등)별 토큰 버킷 -> 최대 capacity번까지 연속 허용, refillPeriod마다 capacity개가 다시 채워짐
+//버킷 상태를 "다음 토큰이 비는 예정 시각"(GCRA의 TAT) 하나로 표현 -> AtomicLong 하나를 CAS로 갱신, 락 없음
+//예정 시각이 지난 버킷은 가득 찬 새 버킷과 같으므로 주기적으로 제거해도 동작이 바뀌지 않음
+public class TokenBucketLimiter {
+    //버킷 수가 maxBuckets를 넘었을 때 정리하는 최소 간격
+    private static final long OVERFLOW_SWEEP_GAP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long intervalNanos; //토큰 하나가 채워지는 시간
+    private final long toleranceNanos; //연속 허용량 -> (capacity - 1) * interval
+    private final int maxBuckets;
+    private final long sweepIntervalNanos;
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+
+    public TokenBucketLimiter(int capacity, Duration refillPeriod, int maxBuckets) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.intervalNanos = Math.max(refillPeriod.toNanos() / capacity, 1);
+        this.toleranceNanos = intervalNanos * (capacity - 1);
+        this.maxBuckets = maxBuckets;
+        this.sweepIntervalNanos = Math.max(refillPeriod.toNanos(), 1);
+        this.lastSweep = new AtomicLong(System.nanoTime());
+    }
+
+    //허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간(ns)을 반환
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        sweepIfDue(now);
+
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now; //이미 가득 찬 버킷이면 지금부터 계산
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    //refillPeriod마다, 버킷 수가 maxBuckets를 넘었으면 1초마다 가득 찬(예정 시각이 지난) 버킷을 제거
+    //한 스레드만 정리하고 나머지 요청은 기다리지 않음
+    //제거와 동시에 같은 버킷을 갱신한 요청은 새 버킷에 반영되지 않을 수 있음 -> 키당 최대 한 번의 추가 허용
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        long elapsed = now - last;
+        boolean due = elapsed >= sweepIntervalNanos
+                || (elapsed >= OVERFLOW_SWEEP_GAP_NANOS && buckets.size() > maxBuckets);
+        if (!due || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+}
@@ -1,3 +1,3 @@
-INSERT INTO article (title, content, author, created_at, updated_at) VALUES ('제목 1', '내용 1', 'User 1', NOW(), NOW())
-INSERT INTO article (title, content, author, created_at, updated_at) VALUES ('제목 2', '내용 2', 'User 2', NOW(), NOW())
-INSERT INTO article (title, content, author, created_at, updated_at) VALUES ('제목 3', '내용 3', 'User 3', NOW(), NOW())
\ No newline at end of file
+INSERT INTO article (id, title, content, author, created_at, updated_at) VALUES (NEXT VALUE FOR article_seq, '제목 1', '내용 1', 'User 1', NOW(), NOW())
+INSERT INTO article (id, title, content, author, created_at, updated_at) VALUES (NEXT VALUE FOR article_seq, '제목 2', '내용 2', 'User 2', NOW(), NOW())
+INSERT INTO article (id, title, content, author, created_at, updated_at) VALUES (NEXT VALUE FOR article_seq, '제목 3', '내용 3', 'User 3', NOW(), NOW())
\ No newline at end of file
@@ -0,0 +1,97 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.yoonblog.springbootdeveloper.config.jwt.JwtFactory;
+import me.yoonblog.springbootdeveloper.config.jwt.JwtProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//글 목록 조회를 1시간에 2번까지만 허용하는 규칙으로 테스트 -> 테스트 중에는 버킷이 다시 채워지지 않음
+//버킷은 테스트끼리 공유하므로 테스트마다 다른 IP와 사용자를 사용
+@SpringBootTest(properties = {
+        "rate-limit.rules[0].name=test",
+        "rate-limit.rules[0].paths=/api/articles",
+        "rate-limit.rules[0].methods=GET",
+        "rate-limit.rules[0].capacity=2",
+        "rate-limit.rules[0].refill-period=1h"
+})
+@AutoConfigureMockMvc //스프링 시큐리티 필터 체인까지 거치는 MockMvc
+class RateLimitFilterTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtProperties jwtProperties;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DisplayName("doFilterInternal() 테스트 : 버킷이 비면 429와 Retry-After로 응답하고 거절 횟수를 기록")
+    @Test
+    void rejectWhenBucketIsEmpty() throws Exception {
+        //given
+        double rejected = rejectedCount();
+        mockMvc.perform(articles("10.0.0.1", null)).andExpect(status().isOk());
+        mockMvc.perform(articles("10.0.0.1", null)).andExpect(status().isOk());
+
+        //when
+        String retryAfter = mockMvc.perform(articles("10.0.0.1", null))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andReturn().getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+
+        //then : 토큰 하나가 채워지는 30분 안에서 초 단위로 올림
+        assertThat(Long.parseLong(retryAfter)).isBetween(1L, 1800L);
+        assertThat(rejectedCount()).isEqualTo(rejected + 1);
+    }
+
+    @DisplayName("doFilterInternal() 테스트 : 로그인한 요청도 IP 버킷을 차감")
+    @Test
+    void authenticatedRequestsShareIpBucket() throws Exception {
+        //given : 같은 IP에서 다른 사용자가 IP 버킷을 비움
+        mockMvc.perform(articles("10.0.0.2", "first@gmail.com")).andExpect(status().isOk());
+        mockMvc.perform(articles("10.0.0.2", "first@gmail.com")).andExpect(status().isOk());
+
+        //when : 사용자 버킷이 가득 찬 다른 사용자가 같은 IP에서 요청
+        //then
+        mockMvc.perform(articles("10.0.0.2", "second@gmail.com")).andExpect(status().isTooManyRequests());
+    }
+
+    @DisplayName("doFilterInternal() 테스트 : 로그인한 요청은 IP를 바꿔도 사용자 버킷을 차감")
+    @Test
+    void authenticatedRequestsUseUserBucket() throws Exception {
+        //given : 사용자 버킷을 비움
+        mockMvc.perform(articles("10.0.0.3", "third@gmail.com")).andExpect(status().isOk());
+        mockMvc.perform(articles("10.0.0.4", "third@gmail.com")).andExpect(status().isOk());
+
+        //when : IP 버킷이 가득 찬 다른 IP에서 같은 사용자가 요청
+        //then
+        mockMvc.perform(articles("10.0.0.5", "third@gmail.com")).andExpect(status().isTooManyRequests());
+    }
+
+    //remoteAddr에서 보내는 글 목록 요청, user가 있으면 해당 사용자의 액세스 토큰을 붙임
+    private MockHttpServletRequestBuilder articles(String remoteAddr, String user) {
+        MockHttpServletRequestBuilder request = get("/api/articles").with(r -> {
+            r.setRemoteAddr(remoteAddr);
+            return r;
+        });
+        if (user != null) {
+            String token = JwtFactory.builder().subject(user).build().createToken(jwtProperties);
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return request;
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.counter("rate.limit.rejected", "rule", "test").count();
+    }
+}
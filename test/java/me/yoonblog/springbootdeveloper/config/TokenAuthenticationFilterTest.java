@@ -0,0 +1,52 @@
+package me.yoonblog.springbootdeveloper.config;
+
+import me.yoonblog.springbootdeveloper.config.jwt.JwtFactory;
+import me.yoonblog.springbootdeveloper.config.jwt.JwtProperties;
+import me.yoonblog.springbootdeveloper.util.DigestUtil;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc //스프링 시큐리티 필터 체인까지 거치는 MockMvc
+class TokenAuthenticationFilterTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtProperties jwtProperties;
+    @Autowired
+    private ExpiringCache<String, UserDetails> tokenCache;
+
+    @DisplayName("doFilterInternal() 테스트 : 캐시한 토큰도 서명 키가 바뀌면 더 이상 인증되지 않음")
+    @Test
+    void rotateKeyRevokesCachedToken() throws Exception {
+        //given : 토큰으로 한 번 요청해 검증 결과를 캐시에 올려둠
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+        mockMvc.perform(get("/api/articles").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        boolean cached = tokenCache.get(DigestUtil.sha256(token)) != null;
+        String secret = jwtProperties.getSecretKey();
+
+        try {
+            //when : 비밀값을 바꾼 뒤 같은 토큰으로 요청
+            jwtProperties.setSecretKey("rotated-secret-key");
+
+            //then
+            mockMvc.perform(get("/api/articles").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            jwtProperties.setSecretKey(secret);
+        }
+        assertThat(cached).isTrue();
+    }
+}
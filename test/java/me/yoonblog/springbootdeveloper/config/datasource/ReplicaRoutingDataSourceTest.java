@@ -0,0 +1,83 @@
+package me.yoonblog.springbootdeveloper.config.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//주 DB와 읽기 전용 DB 대신 서로 다른 H2 인메모리 DB 두 개를 사용
+class ReplicaRoutingDataSourceTest {
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @DisplayName("ReadReplica로 감싼 읽기 전용 트랜잭션의 쿼리는 읽기 전용 DB에서 실행")
+    @Test
+    void readOnlyTransaction_withReadReplica_usesReplica() {
+        //given
+        transactionTemplate.setReadOnly(true);
+
+        //when
+        String name = transactionTemplate.execute(status -> ReadReplica.call(this::currentDatabase));
+
+        //then
+        assertThat(name).isEqualTo("replica");
+    }
+
+    @DisplayName("ReadReplica로 감싸지 않은 읽기 전용 트랜잭션의 쿼리는 주 DB에서 실행")
+    @Test
+    void readOnlyTransaction_withoutReadReplica_usesPrimary() {
+        //given
+        transactionTemplate.setReadOnly(true);
+
+        //when
+        String name = transactionTemplate.execute(status -> currentDatabase());
+
+        //then
+        assertThat(name).isEqualTo("primary");
+    }
+
+    @DisplayName("읽기-쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 주 DB에서 실행")
+    @Test
+    void readWriteTransaction_usesPrimary() {
+        //when
+        String inTransaction = transactionTemplate.execute(status -> currentDatabase());
+        String withoutTransaction = currentDatabase();
+
+        //then
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    //DB마다 자기 이름을 담은 marker 테이블을 만듦
+    private static DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
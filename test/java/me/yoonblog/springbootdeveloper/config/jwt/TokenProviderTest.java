@@ -3,6 +3,7 @@ package me.yoonblog.springbootdeveloper.config.jwt;
 import io.jsonwebtoken.Jwts;
 import me.yoonblog.springbootdeveloper.domain.User;
 import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +25,8 @@ class TokenProviderTest {
     private UserRepository userRepository;
     @Autowired
     private JwtProperties jwtProperties;
+    @Autowired
+    private ExpiringCache<String, UserDetails> tokenCache;
 
     //generateToken() 검증 테스트
     //토큰 생성 메서드를 테스트
@@ -80,6 +83,44 @@ class TokenProviderTest {
         assertThat(result).isTrue();
     }
 
+    //parse() 검증 테스트
+    @DisplayName("parse() 테스트 : 유효한 토큰이면 클레임을 반환")
+    @Test
+    void parse_validToken() {
+        //given
+        String token = JwtFactory.builder()
+                .subject("user@email.com")
+                .build()
+                .createToken(jwtProperties);
+
+        //when
+        ParsedToken parsed = tokenProvider.parse(token);
+
+        //then
+        assertThat(parsed.isValid()).isTrue();
+        assertThat(parsed.getClaims().getSubject()).isEqualTo("user@email.com");
+    }
+
+    @DisplayName("parse() 테스트 : 만료된 토큰이면 EXPIRED, 다른 비밀값으로 서명한 토큰이면 BAD_SIGNATURE")
+    @Test
+    void parse_invalidToken() {
+        //given
+        String expiredToken = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setIssuer(jwtProperties.getIssuer());
+        otherProperties.setSecretKey("other-secret-key");
+        String otherSignedToken = JwtFactory.withDefaultValues().createToken(otherProperties);
+
+        //when & then
+        assertThat(tokenProvider.parse(expiredToken).getStatus()).isEqualTo(ParsedToken.Status.EXPIRED);
+        assertThat(tokenProvider.parse(otherSignedToken).getStatus()).isEqualTo(ParsedToken.Status.BAD_SIGNATURE);
+        assertThat(tokenProvider.parse(null).getStatus()).isEqualTo(ParsedToken.Status.MISSING);
+    }
+
     //getAuthentication() 검증 테스트
     @DisplayName("getAuthentication() 테스트 : 토큰 기반으로 인증 정보를 가져옴")
     @Test
@@ -98,6 +139,49 @@ class TokenProviderTest {
         assertThat(((UserDetails) authentication.getPrincipal()).getUsername()).isEqualTo(userEmail);
     }
 
+    @DisplayName("getAuthentication() 테스트 : 같은 사용자 정보로도 요청마다 새 인증 객체를 만듦")
+    @Test
+    void getAuthenticationFromPrincipal() {
+        //given
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+        UserDetails principal = tokenProvider.getPrincipal(tokenProvider.parse(token).getClaims());
+
+        //when
+        Authentication first = tokenProvider.getAuthentication(principal, token);
+        Authentication second = tokenProvider.getAuthentication(principal, token);
+
+        //then
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getPrincipal()).isSameAs(second.getPrincipal());
+        assertThat(first.getAuthorities()).containsExactlyElementsOf(principal.getAuthorities());
+    }
+
+    @DisplayName("keyGeneration() 테스트 : 비밀값이 바뀌면 토큰을 복호화하지 않아도 세대가 바뀌고 캐시한 토큰을 모두 제거")
+    @Test
+    void rotateKeyClearsTokenCache() {
+        //given
+        String token = JwtFactory.withDefaultValues().createToken(jwtProperties);
+        tokenCache.put("cached", tokenProvider.getPrincipal(tokenProvider.parse(token).getClaims()));
+        long generation = tokenProvider.keyGeneration();
+        String secret = jwtProperties.getSecretKey();
+
+        //when
+        long rotated;
+        ParsedToken parsed;
+        try {
+            jwtProperties.setSecretKey("rotated-secret-key");
+            rotated = tokenProvider.keyGeneration();
+            parsed = tokenProvider.parse(token);
+        } finally {
+            jwtProperties.setSecretKey(secret);
+        }
+
+        //then
+        assertThat(rotated).isEqualTo(generation + 1);
+        assertThat(tokenCache.get("cached")).isNull();
+        assertThat(parsed.getStatus()).isEqualTo(ParsedToken.Status.BAD_SIGNATURE);
+    }
+
     //getUserId() 검증 테스트
     @DisplayName("getUserId() 테스트 : 토큰으로 유저 ID를 가져옴")
     @Test
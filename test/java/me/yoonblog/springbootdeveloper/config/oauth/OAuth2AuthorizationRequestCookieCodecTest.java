@@ -0,0 +1,61 @@
+package me.yoonblog.springbootdeveloper.config.oauth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuth2AuthorizationRequestCookieCodecTest {
+    private final OAuth2AuthorizationRequestCookieCodec codec =
+            new OAuth2AuthorizationRequestCookieCodec("study-springboot", Duration.ofHours(5));
+
+    @DisplayName("encode(), decode() 테스트 : 쿠키 값으로 변환한 인증 요청을 그대로 복원")
+    @Test
+    void encodeAndDecode() {
+        //given
+        OAuth2AuthorizationRequest request = googleAuthorizationRequest();
+
+        //when
+        String value = codec.encode(request);
+        OAuth2AuthorizationRequest decoded = codec.decode(value);
+
+        //then : 쿠키 값은 1KB보다 작고, 인증 요청의 필드는 모두 같음
+        assertThat(value.length()).isLessThan(1024);
+        assertThat(decoded.getClientId()).isEqualTo(request.getClientId());
+        assertThat(decoded.getRedirectUri()).isEqualTo(request.getRedirectUri());
+        assertThat(decoded.getScopes()).isEqualTo(request.getScopes());
+        assertThat(decoded.getState()).isEqualTo(request.getState());
+        assertThat(decoded.getAttributes()).isEqualTo(request.getAttributes());
+        assertThat(decoded.getAuthorizationRequestUri()).isEqualTo(request.getAuthorizationRequestUri());
+    }
+
+    @DisplayName("decode() 테스트 : 다른 비밀값으로 서명했거나 변조한 값이면 null 반환")
+    @Test
+    void decode_invalidSignature() {
+        //given
+        String value = new OAuth2AuthorizationRequestCookieCodec("other-secret", Duration.ofHours(5))
+                .encode(googleAuthorizationRequest());
+        String tampered = codec.encode(googleAuthorizationRequest()).replaceFirst("\\.", ".e");
+
+        //when & then
+        assertThat(codec.decode(value)).isNull();
+        assertThat(codec.decode(tampered)).isNull();
+        assertThat(codec.decode("not-a-cookie")).isNull();
+    }
+
+    private OAuth2AuthorizationRequest googleAuthorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("1234567890-abcdefghijklmnopqrstuvwxyz012345.apps.googleusercontent.com")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("Zp3Jw8q1XkVb7mT2yRc0LsN4dHfGaE6uQiOo9WlBz5A=")
+                .attributes(Map.of("registration_id", "google"))
+                .build();
+    }
+}
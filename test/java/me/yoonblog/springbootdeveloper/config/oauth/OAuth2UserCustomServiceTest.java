@@ -0,0 +1,90 @@
+package me.yoonblog.springbootdeveloper.config.oauth;
+
+import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import me.yoonblog.springbootdeveloper.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OAuth2UserCustomServiceTest {
+    @Autowired
+    private OAuth2UserCustomService oAuth2UserCustomService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("saveOrUpdate() 테스트 : 처음 로그인한 유저는 새로 저장")
+    @Test
+    void saveOrUpdateNewUser() {
+        //given
+        OAuth2User oAuth2User = oAuth2User("user@gmail.com", "name");
+
+        //when
+        User user = oAuth2UserCustomService.saveOrUpdate(oAuth2User);
+
+        //then
+        assertThat(user.getId()).isNotNull();
+        assertThat(userRepository.findByEmail("user@gmail.com").get().getNickname()).isEqualTo("name");
+    }
+
+    @DisplayName("saveOrUpdate() 테스트 : 이름이 바뀌면 닉네임을 수정하고 유저 캐시를 비움")
+    @Test
+    void saveOrUpdateChangedName() {
+        //given
+        User saved = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .nickname("before")
+                .build());
+        userService.findByEmail("user@gmail.com");
+
+        //when
+        User user = oAuth2UserCustomService.saveOrUpdate(oAuth2User("user@gmail.com", "after"));
+
+        //then
+        assertThat(user.getId()).isEqualTo(saved.getId());
+        assertThat(user.getNickname()).isEqualTo("after");
+        assertThat(userRepository.findById(saved.getId()).get().getNickname()).isEqualTo("after");
+        assertThat(userService.findByEmail("user@gmail.com").getNickname()).isEqualTo("after");
+    }
+
+    @DisplayName("saveOrUpdate() 테스트 : 이름이 그대로면 저장된 유저를 그대로 반환")
+    @Test
+    void saveOrUpdateUnchangedName() {
+        //given
+        User saved = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .nickname("name")
+                .build());
+
+        //when
+        User user = oAuth2UserCustomService.saveOrUpdate(oAuth2User("user@gmail.com", "name"));
+
+        //then
+        assertThat(user.getId()).isEqualTo(saved.getId());
+        assertThat(user.getNickname()).isEqualTo("name");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    private OAuth2User oAuth2User(String email, String name) {
+        return new DefaultOAuth2User(List.of(new SimpleGrantedAuthority("OAUTH2_USER")),
+                Map.of("email", email, "name", name), "email");
+    }
+}
@@ -1,12 +1,16 @@
 package me.yoonblog.springbootdeveloper.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import me.yoonblog.springbootdeveloper.config.ArticleExportProperties;
 import me.yoonblog.springbootdeveloper.domain.Article;
 import me.yoonblog.springbootdeveloper.domain.User;
 import me.yoonblog.springbootdeveloper.dto.AddArticleRequest;
+import me.yoonblog.springbootdeveloper.dto.ArticleBatchRequest;
 import me.yoonblog.springbootdeveloper.dto.UpdateArticleRequest;
 import me.yoonblog.springbootdeveloper.repository.BlogRepository;
 import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import me.yoonblog.springbootdeveloper.service.ArticleSearchService;
+import me.yoonblog.springbootdeveloper.service.BlogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,23 +18,31 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -53,6 +65,12 @@ class BlogApiControllerTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ArticleSearchService articleSearchService;
+
+    @Autowired
+    ArticleExportProperties articleExportProperties;
+
     User user;
 
     @BeforeEach //테스트 실행 전 실행하는 메서드
@@ -60,6 +78,7 @@ class BlogApiControllerTest {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
                 .build();
         blogRepository.deleteAll();
+        articleSearchService.rebuild(); //지운 글이 검색 색인에 남지 않도록 다시 만듦
     }
 
     @BeforeEach
@@ -120,10 +139,237 @@ class BlogApiControllerTest {
         // then
         resultActions
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value(savedArticle.getContent()))
+                .andExpect(jsonPath("$[0].id").value(savedArticle.getId()))
+                .andExpect(jsonPath("$[0].excerpt").value(savedArticle.getContent()))
                 .andExpect(jsonPath("$[0].title").value(savedArticle.getTitle()));
     }
 
+    @DisplayName("findAllArticles: 커서 기반으로 블로그 글 목록을 나눠서 조회")
+    @Test
+    public void findAllArticlesWithCursor() throws Exception {
+        // given : 글 3개를 저장하고 한 페이지에 2개씩 조회
+        final String url = "/api/articles";
+        createDefaultArticle();
+        Article second = createDefaultArticle();
+        createDefaultArticle();
+
+        // when : 첫 페이지 조회
+        final ResultActions firstPage = mockMvc.perform(get(url)
+                .param("limit", "2")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then : 글 2개와 다음 페이지 링크(after=두 번째 글 ID)를 응답
+        firstPage
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string("Link",
+                        containsString("after=" + second.getId())));
+
+        // when : 다음 페이지 조회
+        final ResultActions nextPage = mockMvc.perform(get(url)
+                .param("limit", "2")
+                .param("after", String.valueOf(second.getId()))
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then : 남은 글 1개만 응답하고 다음 페이지 링크는 없음
+        nextPage
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @DisplayName("findAllArticles: 페이지의 글이 그대로면 304, 페이지의 글이 수정되면 200으로 새 목록을 응답")
+    @Test
+    public void findAllArticlesConditional() throws Exception {
+        // given : 목록을 한 번 조회해 ETag를 받아둠
+        final String url = "/api/articles";
+        Article savedArticle = createDefaultArticle();
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        final ResultActions notModified = mockMvc.perform(get(url)
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        mockMvc.perform(put("/api/articles/{id}", savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "new content"))))
+                .andExpect(status().isOk());
+        final ResultActions modified = mockMvc.perform(get(url)
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        // then
+        notModified
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        modified
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("new title"));
+    }
+
+    @DisplayName("exportArticles: 전체 글을 한 줄에 하나씩 NDJSON으로 내보냄")
+    @Test
+    public void exportArticles() throws Exception {
+        // given
+        final String url = "/api/articles/export";
+        Article first = createDefaultArticle();
+        Article second = createDefaultArticle();
+
+        // when : 응답 본문은 비동기로 쓰이므로 끝날 때까지 기다림
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        // then
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("id").asLong()).isEqualTo(first.getId());
+        assertThat(objectMapper.readTree(lines.get(1)).get("id").asLong()).isEqualTo(second.getId());
+        assertThat(objectMapper.readTree(lines.get(1)).get("content").asText()).isEqualTo(second.getContent());
+    }
+
+    @DisplayName("exportArticles: 한 번에 조회하는 개수보다 글이 많아도 전체 글을 내보내고, 내보내기 전용 제한 시간을 사용")
+    @Test
+    public void exportArticlesAcrossPages() throws Exception {
+        // given : EXPORT_FETCH_SIZE보다 많은 글
+        final String url = "/api/articles/export";
+        int count = BlogService.EXPORT_FETCH_SIZE * 2 + 1;
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(Article.builder()
+                    .title("title " + i)
+                    .author(user.getUsername())
+                    .content("content " + i)
+                    .build());
+        }
+        blogRepository.saveAll(articles);
+
+        // when
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        // then : 모든 글이 ID 순서대로 한 번씩
+        List<Long> ids = result.getResponse().getContentAsString().lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line).get("id").asLong();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+        assertThat(ids).hasSize(count).isSorted().doesNotHaveDuplicates();
+        assertThat(result.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(articleExportProperties.getTimeout().toMillis());
+    }
+
+    @DisplayName("searchArticles: 제목과 본문으로 블로그 글 검색")
+    @Test
+    public void searchArticles() throws Exception {
+        // given : API로 글을 등록해 검색 색인에 추가
+        final String url = "/api/articles/search";
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn("username");
+
+        mockMvc.perform(post("/api/articles")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .principal(principal)
+                        .content(objectMapper.writeValueAsString(
+                                new AddArticleRequest("스프링 부트 입문", "JPA와 <b>하이버네이트</b>로 블로그 만들기"))))
+                .andExpect(status().isCreated());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url)
+                .param("q", "하이버네이트")
+                .accept(MediaType.APPLICATION_JSON));
+
+        // then : 일치한 부분은 <em>으로 감싸고 나머지 HTML은 이스케이프
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.hits[0].title").value("스프링 부트 입문"))
+                .andExpect(jsonPath("$.hits[0].snippet").value(containsString("<em>하이버네이트</em>")))
+                .andExpect(jsonPath("$.hits[0].snippet").value(containsString("&lt;b&gt;")));
+    }
+
+    @DisplayName("applyBatch: 여러 글을 한 번에 추가, 수정, 삭제하고 작업별 결과를 응답")
+    @Test
+    public void applyBatch() throws Exception {
+        // given : 수정할 글, 삭제할 글, 다른 유저의 글을 미리 저장
+        final String url = "/api/articles/batch";
+        Article toUpdate = createDefaultArticle();
+        Article toDelete = createDefaultArticle();
+        Article othersArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .author("other@gmail.com")
+                .content("content")
+                .build());
+
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn(user.getUsername());
+
+        ArticleBatchRequest request = new ArticleBatchRequest(List.of(
+                new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.CREATE, null, "new title", "new content"),
+                new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.UPDATE, toUpdate.getId(),
+                        "updated title", "updated content"),
+                new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.DELETE, toDelete.getId(), null, null),
+                new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.DELETE, othersArticle.getId(), null, null),
+                new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.UPDATE, -1L, "title", "content"),
+                new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.CREATE, null, null, "content")));
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .principal(principal)
+                .content(objectMapper.writeValueAsString(request)));
+
+        // then : 실패한 작업과 관계없이 나머지 작업은 반영
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].status").value("UPDATED"))
+                .andExpect(jsonPath("$[2].status").value("DELETED"))
+                .andExpect(jsonPath("$[3].status").value("UNAUTHORIZED"))
+                .andExpect(jsonPath("$[4].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$[5].status").value("INVALID"));
+
+        assertThat(blogRepository.findById(toUpdate.getId()).get().getTitle()).isEqualTo("updated title");
+        assertThat(blogRepository.findById(toDelete.getId())).isEmpty();
+        assertThat(blogRepository.findById(othersArticle.getId())).isPresent();
+        assertThat(blogRepository.count()).isEqualTo(3);
+    }
+
+    @DisplayName("applyBatch: 작업이 최대 개수를 넘으면 아무것도 반영하지 않고 400 응답")
+    @Test
+    public void applyBatchTooManyOperations() throws Exception {
+        // given
+        final String url = "/api/articles/batch";
+        Principal principal = Mockito.mock(Principal.class);
+        Mockito.when(principal.getName()).thenReturn(user.getUsername());
+
+        List<ArticleBatchRequest.Operation> operations = new ArrayList<>();
+        for (int i = 0; i <= BlogService.MAX_BATCH_OPERATIONS; i++) {
+            operations.add(new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.CREATE, null, "title", "content"));
+        }
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .principal(principal)
+                .content(objectMapper.writeValueAsString(new ArticleBatchRequest(operations))));
+
+        // then
+        resultActions
+                .andExpect(status().isBadRequest());
+        assertThat(blogRepository.count()).isZero();
+    }
+
     @DisplayName("findArticle: 블로그 글 조회")
     @Test
     public void findArticle() throws Exception {
@@ -140,6 +386,38 @@ class BlogApiControllerTest {
                 .andExpect(jsonPath("$.title").value(savedArticle.getTitle()));
     }
 
+    @DisplayName("findArticle: ETag가 같으면 304, 글이 수정되면 200으로 새 본문을 응답")
+    @Test
+    public void findArticleConditional() throws Exception {
+        // given : 글을 한 번 조회해 ETag를 받아둠
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        String etag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        final ResultActions notModified = mockMvc.perform(get(url, savedArticle.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "new content"))))
+                .andExpect(status().isOk());
+        final ResultActions modified = mockMvc.perform(get(url, savedArticle.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        // then
+        notModified
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        modified
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"));
+    }
+
     @DisplayName("deleteArticle: 블로그 글 삭제")
     @Test
     public void deleteArticle() throws Exception {
@@ -184,6 +462,80 @@ class BlogApiControllerTest {
         assertThat(article.getContent()).isEqualTo(newContent);
     }
 
+    @DisplayName("updateArticle: 수정 직후 조회하면 수정된 글을 응답")
+    @Test
+    public void findArticleAfterUpdate() throws Exception {
+        // given : 글을 한 번 조회해 캐시에 올려둠
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk());
+
+        UpdateArticleRequest request = new UpdateArticleRequest("new title", "new content");
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId()));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"))
+                .andExpect(jsonPath("$.content").value("new content"));
+    }
+
+    @DisplayName("updateArticle: If-Match의 버전이 현재 버전과 다르면 수정하지 않고 412 응답")
+    @Test
+    public void updateArticleIfMatch() throws Exception {
+        // given : 조회한 ETag로 한 번 수정
+        final String url = "/api/articles/{id}";
+        Article savedArticle = createDefaultArticle();
+        String etag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        String newEtag = mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("first", "first"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when : 수정 전에 받은 ETag로 다시 수정
+        ResultActions result = mockMvc.perform(put(url, savedArticle.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("second", "second"))));
+
+        // then
+        result.andExpect(status().isPreconditionFailed());
+        assertThat(newEtag).isNotEqualTo(etag);
+        assertThat(blogRepository.findById(savedArticle.getId()).get().getTitle()).isEqualTo("first");
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(header().string(HttpHeaders.ETAG, newEtag));
+    }
+
+    @DisplayName("updateArticle: 동시에 수정해 @Version 검사에 실패하면 409 응답")
+    @Test
+    public void updateArticleConflict() throws Exception {
+        // given : 커밋할 때 다른 요청이 먼저 수정한 것으로 실패하는 서비스
+        BlogService conflictingService = Mockito.mock(BlogService.class);
+        Mockito.when(conflictingService.update(Mockito.eq(1L), Mockito.any(), Mockito.any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Article.class, 1L));
+        MockMvc standalone = MockMvcBuilders.standaloneSetup(new BlogApiController(conflictingService,
+                articleSearchService, objectMapper, articleExportProperties)).build();
+
+        // when
+        ResultActions result = standalone.perform(put("/api/articles/{id}", 1L)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("title", "content"))));
+
+        // then
+        result.andExpect(status().isConflict());
+    }
+
     private Article createDefaultArticle() {
         return blogRepository.save(Article.builder()
                 .title("title")
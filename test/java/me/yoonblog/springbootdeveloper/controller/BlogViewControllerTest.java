@@ -0,0 +1,167 @@
+package me.yoonblog.springbootdeveloper.controller;
+
+import me.yoonblog.springbootdeveloper.domain.Article;
+import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.dto.RenderedPage;
+import me.yoonblog.springbootdeveloper.dto.UpdateArticleRequest;
+import me.yoonblog.springbootdeveloper.repository.BlogRepository;
+import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import me.yoonblog.springbootdeveloper.service.BlogService;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class BlogViewControllerTest {
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private BlogRepository blogRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BlogService blogService;
+    @Autowired
+    private ExpiringCache<Long, RenderedPage> articlePageCache;
+    @Autowired
+    private ExpiringCache<String, RenderedPage> articleListPageCache;
+
+    private MockMvc mockMvc;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        blogRepository.deleteAll();
+        articlePageCache.invalidateAll();
+        articleListPageCache.invalidateAll();
+
+        userRepository.deleteAll();
+        user = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user,
+                user.getPassword(), user.getAuthorities()));
+    }
+
+    @DisplayName("getArticle: 렌더링한 글 페이지를 캐시하고, 글이 수정되면 다시 렌더링")
+    @Test
+    void getArticle() throws Exception {
+        //given : 글 페이지를 한 번 렌더링해 캐시에 올려둠
+        Article article = blogRepository.save(Article.builder()
+                .title("title")
+                .author(user.getUsername())
+                .content("content")
+                .build());
+        mockMvc.perform(get("/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("title")));
+        RenderedPage cached = articlePageCache.get(article.getId());
+
+        //when
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+
+        //then
+        assertThat(cached).isNotNull();
+        assertThat(articlePageCache.get(article.getId())).isNull();
+        mockMvc.perform(get("/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/html"))
+                .andExpect(content().string(containsString("new title")))
+                .andExpect(content().string(not(containsString(">title<"))));
+    }
+
+    @DisplayName("getArticles: 목록의 글이 그대로면 304, 글이 수정되면 200으로 새 목록 페이지를 응답")
+    @Test
+    void getArticlesConditional() throws Exception {
+        //given : 목록 페이지를 한 번 조회해 ETag를 받아둠
+        Article article = saveArticle();
+        String etag = mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when
+        int notModified = mockMvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn().getResponse().getStatus();
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+
+        //then
+        assertThat(notModified).isEqualTo(304);
+        mockMvc.perform(get("/articles").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("new title")));
+    }
+
+    @DisplayName("getArticles: 페이지 버전이 같으면 캐시한 목록 페이지를 응답하고, 글이 수정되면 다시 렌더링")
+    @Test
+    void getArticlesCached() throws Exception {
+        //given : 목록 페이지를 렌더링한 뒤, 캐시 적중 여부를 알 수 있도록 같은 버전의 다른 본문으로 바꿔둠
+        Article article = saveArticle();
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk());
+        String key = "0-" + BlogService.DEFAULT_PAGE_SIZE;
+        RenderedPage rendered = articleListPageCache.get(key);
+        articleListPageCache.put(key, new RenderedPage(rendered.getVersion(),
+                "cached".getBytes(StandardCharsets.UTF_8)));
+
+        //when
+        String cached = mockMvc.perform(get("/articles"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        blogService.update(article.getId(), new UpdateArticleRequest("new title", "new content"));
+
+        //then
+        assertThat(cached).isEqualTo("cached");
+        mockMvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("new title")));
+    }
+
+    @DisplayName("getArticle: 캐시한 글 페이지로 응답해도 응답 시점의 조회수를 표시")
+    @Test
+    void getArticleViewCount() throws Exception {
+        //given : 첫 조회로 글 페이지를 렌더링해 캐시에 올려둠
+        Article article = saveArticle();
+        mockMvc.perform(get("/articles/{id}", article.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("<span id=\"view-count\">1</span>")));
+
+        //when : 캐시한 페이지로 응답
+        String page = mockMvc.perform(get("/articles/{id}", article.getId()))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        //then
+        assertThat(page).contains("<span id=\"view-count\">2</span>");
+        assertThat(new String(articlePageCache.get(article.getId()).getBody(), StandardCharsets.UTF_8))
+                .contains("<span id=\"view-count\">1</span>");
+    }
+
+    private Article saveArticle() {
+        return blogRepository.save(Article.builder()
+                .title("title")
+                .author(user.getUsername())
+                .content("content")
+                .build());
+    }
+}
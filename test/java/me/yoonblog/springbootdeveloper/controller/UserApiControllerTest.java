@@ -0,0 +1,81 @@
+package me.yoonblog.springbootdeveloper.controller;
+
+import me.yoonblog.springbootdeveloper.config.PasswordHashExecutor;
+import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"password-hashing.threads=1", "password-hashing.queue-capacity=1"})
+@AutoConfigureMockMvc
+class UserApiControllerTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    public void mockMvcSetup() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("signup: 해시 대기열이 가득 차면 유저를 저장하지 않고 503과 Retry-After로 응답")
+    @Test
+    public void signupRejectedWhenQueueIsFull() throws Exception {
+        //given : 스레드 1개와 대기열 1칸을 모두 채움
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashExecutor.supplyAsync(() -> await(release));
+        passwordHashExecutor.supplyAsync(() -> await(release));
+
+        //when
+        final ResultActions resultActions;
+        try {
+            resultActions = mockMvc.perform(post("/user")
+                    .param("email", "user@gmail.com")
+                    .param("password", "test"));
+        } finally {
+            release.countDown();
+        }
+
+        //then
+        resultActions
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        assertThat(userRepository.findByEmail("user@gmail.com")).isEmpty();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            latch.await();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
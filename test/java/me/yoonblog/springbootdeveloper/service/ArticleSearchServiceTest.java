@@ -0,0 +1,69 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleSearchServiceTest {
+
+    @DisplayName("tokenize() 테스트 : 소문자로 바꾼 단어와 한글 바이그램으로 자름")
+    @Test
+    void tokenize() {
+        //when
+        List<String> terms = ArticleSearchService.tokenize("İstanbul 하이버네이트");
+
+        //then
+        assertThat(terms).containsExactly("istanbul", "하이", "이버", "버네", "네이", "이트");
+    }
+
+    @DisplayName("snippet() 테스트 : 소문자로 바꾸면 길이가 달라지는 글자('İ')가 있어도 일치한 위치를 강조")
+    @Test
+    void snippetKeepsOffsets() {
+        //given
+        String content = "İİİ <b>abc</b> İstanbul";
+
+        //when
+        String snippet = ArticleSearchService.snippet(content, Set.of("abc", "istanbul"));
+
+        //then
+        assertThat(snippet).isEqualTo("İİİ &lt;b&gt;<em>abc</em>&lt;/b&gt; <em>İstanbul</em>");
+    }
+
+    @DisplayName("snippet() 테스트 : 검색어가 다른 단어의 일부이면 강조하지 않음")
+    @Test
+    void snippetMatchesWholeTerms() {
+        //when
+        String snippet = ArticleSearchService.snippet("javascript와 java 스프링부트", Set.of("java", "스프", "프링"));
+
+        //then
+        assertThat(snippet).isEqualTo("javascript와 <em>java</em> <em>스프링</em>부트");
+    }
+
+    @DisplayName("page() 테스트 : 점수 높은 순, 같으면 ID가 큰 글 먼저 정렬한 page 번째 페이지를 반환")
+    @Test
+    void page() {
+        //given
+        Map<Long, Double> scores = Map.of(1L, 1.0, 2L, 3.0, 3L, 2.0, 4L, 3.0, 5L, 0.5);
+
+        //when
+        List<Long> first = ids(ArticleSearchService.page(scores, 0, 2));
+        List<Long> second = ids(ArticleSearchService.page(scores, 1, 2));
+        List<Long> last = ids(ArticleSearchService.page(scores, 2, 2));
+        List<Long> beyond = ids(ArticleSearchService.page(scores, 3, 2));
+
+        //then
+        assertThat(first).containsExactly(4L, 2L);
+        assertThat(second).containsExactly(3L, 1L);
+        assertThat(last).containsExactly(5L);
+        assertThat(beyond).isEmpty();
+    }
+
+    private static List<Long> ids(List<Map.Entry<Long, Double>> ranked) {
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+}
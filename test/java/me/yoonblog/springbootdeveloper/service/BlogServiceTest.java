@@ -0,0 +1,70 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import me.yoonblog.springbootdeveloper.domain.Article;
+import jakarta.persistence.EntityManagerFactory;
+import me.yoonblog.springbootdeveloper.dto.AddArticleRequest;
+import me.yoonblog.springbootdeveloper.dto.ArticleBatchRequest;
+import me.yoonblog.springbootdeveloper.dto.ArticleBatchResult;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//읽기 전용 DB로 테이블이 없는 빈 H2 DB를 사용 -> 읽기 전용 DB에서 조회하면 실패함
+//JDBC 배치 여부를 확인하기 위해 하이버네이트 통계 수집
+@SpringBootTest(properties = {
+        "datasource.replica.url=jdbc:h2:mem:blog-replica-empty",
+        "datasource.replica.username=sa",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BlogServiceTest {
+    @Autowired
+    private BlogService blogService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("findById() 테스트 : 캐시 미스일 때는 읽기 전용 DB가 아닌 주 DB에서 조회")
+    @Test
+    void findByIdLoadsFromPrimary() {
+        //given
+        Article saved = blogService.save(new AddArticleRequest("title", "content"), "user");
+
+        //when
+        Article article = blogService.findById(saved.getId());
+
+        //then
+        assertThat(article.getTitle()).isEqualTo("title");
+    }
+
+    @DisplayName("applyBatch() 테스트 : 추가 작업들을 JDBC 배치로 묶어 전송")
+    @Test
+    void applyBatchUsesJdbcBatching() {
+        //given
+        List<ArticleBatchRequest.Operation> operations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            operations.add(new ArticleBatchRequest.Operation(ArticleBatchRequest.Type.CREATE, null,
+                    "title " + i, "content " + i));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        List<ArticleBatchResult> results = blogService.applyBatch(operations, "user");
+
+        //then
+        //batch_size가 50이므로 INSERT 100개는 PreparedStatement 2개로 전송되고, 시퀀스 조회도 50개마다 1번
+        //배치가 되지 않으면 INSERT마다 PreparedStatement를 만들어 100개 이상이 됨
+        assertThat(results).allMatch(ArticleBatchResult::isSucceeded);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(100);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+}
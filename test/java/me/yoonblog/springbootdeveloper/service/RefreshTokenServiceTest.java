@@ -0,0 +1,83 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import me.yoonblog.springbootdeveloper.domain.RefreshToken;
+import me.yoonblog.springbootdeveloper.repository.RefreshTokenRepository;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RefreshTokenServiceTest {
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.now().plusDays(14);
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private ExpiringCache<Long, String> refreshTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        refreshTokenCache.invalidateAll();
+    }
+
+    @DisplayName("saveRefreshToken() 테스트 : 처음 로그인하면 추가, 다시 로그인하면 같은 행의 토큰을 교체")
+    @Test
+    void saveRefreshToken() {
+        //given
+        Long userId = 1L;
+
+        //when
+        refreshTokenService.saveRefreshToken(userId, "first-token", EXPIRES_AT);
+        refreshTokenService.saveRefreshToken(userId, "second-token", EXPIRES_AT);
+
+        //then
+        List<RefreshToken> refreshTokens = refreshTokenRepository.findAll();
+        assertThat(refreshTokens).hasSize(1);
+        assertThat(refreshTokens.get(0).getUserId()).isEqualTo(userId);
+        assertThat(refreshTokens.get(0).getTokenHash()).isEqualTo(RefreshToken.hash("second-token"));
+    }
+
+    @DisplayName("findByRefreshToken() 테스트 : 토큰 원문으로 해시값이 같은 리프레시 토큰을 조회")
+    @Test
+    void findByRefreshToken() {
+        //given
+        Long userId = 1L;
+        refreshTokenService.saveRefreshToken(userId, "refresh-token", EXPIRES_AT);
+
+        //when
+        RefreshToken refreshToken = refreshTokenService.findByRefreshToken("refresh-token");
+
+        //then
+        assertThat(refreshToken.getUserId()).isEqualTo(userId);
+        assertThat(refreshToken.getTokenHash()).isNotEqualTo("refresh-token").hasSize(43);
+    }
+
+    @DisplayName("isCurrent() 테스트 : 다시 로그인해 토큰이 교체되면 이전 토큰은 현재 토큰이 아님")
+    @Test
+    void isCurrent() {
+        //given
+        Long userId = 1L;
+        refreshTokenService.saveRefreshToken(userId, "first-token", EXPIRES_AT);
+        boolean firstBeforeRotation = refreshTokenService.isCurrent(userId, "first-token");
+
+        //when
+        refreshTokenService.saveRefreshToken(userId, "second-token", EXPIRES_AT);
+
+        //then
+        assertThat(firstBeforeRotation).isTrue();
+        assertThat(refreshTokenService.isCurrent(userId, "first-token")).isFalse();
+        assertThat(refreshTokenService.isCurrent(userId, "second-token")).isTrue();
+        assertThat(refreshTokenService.isCurrent(2L, "second-token")).isFalse();
+    }
+}
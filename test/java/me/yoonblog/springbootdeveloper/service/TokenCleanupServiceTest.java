@@ -0,0 +1,74 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import me.yoonblog.springbootdeveloper.config.TokenCleanupProperties;
+import me.yoonblog.springbootdeveloper.domain.RefreshToken;
+import me.yoonblog.springbootdeveloper.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"token.cleanup.chunk-size=2", "token.cleanup.pause=0ms"})
+class TokenCleanupServiceTest {
+    @Autowired
+    private TokenCleanupService tokenCleanupService;
+    @Autowired
+    private TokenCleanupProperties tokenCleanupProperties;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @DisplayName("purgeExpired() 테스트 : 만료된 토큰만 chunkSize개씩 나눠 모두 삭제")
+    @Test
+    void purgeExpired() {
+        //given : 만료된 토큰 5개(chunkSize 2 -> DELETE 3번), 만료되지 않은 토큰 1개
+        LocalDateTime now = LocalDateTime.now();
+        for (long userId = 1; userId <= 5; userId++) {
+            refreshTokenRepository.save(new RefreshToken(userId, "expired-" + userId, now.minusDays(1)));
+        }
+        refreshTokenRepository.save(new RefreshToken(6L, "active", now.plusDays(14)));
+
+        //when
+        int deleted = tokenCleanupService.purgeExpired();
+
+        //then
+        List<RefreshToken> refreshTokens = refreshTokenRepository.findAll();
+        assertThat(deleted).isEqualTo(5);
+        assertThat(refreshTokens).hasSize(1);
+        assertThat(refreshTokens.get(0).getUserId()).isEqualTo(6L);
+    }
+
+    @DisplayName("purgeExpired() 테스트 : 한 번의 작업에서는 maxChunks번까지만 삭제")
+    @Test
+    void purgeExpired_maxChunks() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        for (long userId = 1; userId <= 5; userId++) {
+            refreshTokenRepository.save(new RefreshToken(userId, "expired-" + userId, now.minusDays(1)));
+        }
+        int maxChunks = tokenCleanupProperties.getMaxChunks();
+        tokenCleanupProperties.setMaxChunks(1);
+
+        //when
+        int deleted;
+        try {
+            deleted = tokenCleanupService.purgeExpired();
+        } finally {
+            tokenCleanupProperties.setMaxChunks(maxChunks);
+        }
+
+        //then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(refreshTokenRepository.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,79 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import me.yoonblog.springbootdeveloper.domain.User;
+import me.yoonblog.springbootdeveloper.dto.AddUserRequest;
+import me.yoonblog.springbootdeveloper.repository.UserRepository;
+import me.yoonblog.springbootdeveloper.util.ExpiringCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserServiceTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    @Autowired
+    private ExpiringCache<Long, User> userByIdCache;
+    @Autowired
+    private ExpiringCache<String, User> userByEmailCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        userByIdCache.invalidateAll();
+        userByEmailCache.invalidateAll();
+    }
+
+    @DisplayName("save() 테스트 : 해시 전용 스레드에서 비밀번호를 암호화해 저장")
+    @Test
+    void save() {
+        //given
+        AddUserRequest request = new AddUserRequest();
+        request.setEmail("user@gmail.com");
+        request.setPassword("test");
+
+        //when
+        Long userId = userService.save(request).join();
+
+        //then
+        User user = userRepository.findById(userId).get();
+        assertThat(user.getEmail()).isEqualTo("user@gmail.com");
+        assertThat(bCryptPasswordEncoder.matches("test", user.getPassword())).isTrue();
+    }
+
+    @DisplayName("findByEmail() 테스트 : 조회한 유저를 캐시에 저장하고 evict() 후에는 ID, 이메일 모두 다시 조회")
+    @Test
+    void findByEmailCached() {
+        //given
+        User saved = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .nickname("before")
+                .build());
+        userService.findByEmail("user@gmail.com");
+        userService.findById(saved.getId());
+
+        //when
+        userRepository.save(userRepository.findById(saved.getId()).get().update("after"));
+        User cachedByEmail = userService.findByEmail("user@gmail.com");
+        User cachedById = userService.findById(saved.getId());
+        userService.evict(saved);
+        User reloadedByEmail = userService.findByEmail("user@gmail.com");
+        User reloadedById = userService.findById(saved.getId());
+
+        //then
+        assertThat(cachedByEmail.getNickname()).isEqualTo("before");
+        assertThat(cachedById.getNickname()).isEqualTo("before");
+        assertThat(reloadedByEmail.getNickname()).isEqualTo("after");
+        assertThat(reloadedById.getNickname()).isEqualTo("after");
+    }
+}
@@ -0,0 +1,79 @@
+package me.yoonblog.springbootdeveloper.service;
+
+import me.yoonblog.springbootdeveloper.domain.Article;
+import me.yoonblog.springbootdeveloper.repository.BlogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "view-count.enabled=false")
+class ViewCountServiceTest {
+    @Autowired
+    private ViewCountService viewCountService;
+    @Autowired
+    private BlogRepository blogRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        viewCountService.flush();
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("flush() 테스트 : 메모리에 모은 조회수를 데이터베이스에 더하고, count()는 반영 전후로 같은 값을 반환")
+    @Test
+    void flush() {
+        //given
+        Article article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+        for (int i = 0; i < 3; i++) {
+            viewCountService.increment(article.getId());
+        }
+        long pendingCount = viewCountService.count(article.getId());
+
+        //when
+        int flushed = viewCountService.flush();
+        long flushedCount = viewCountService.count(article.getId());
+        viewCountService.increment(article.getId());
+        viewCountService.flush();
+
+        //then
+        Article updated = blogRepository.findById(article.getId()).get();
+        assertThat(pendingCount).isEqualTo(3);
+        assertThat(flushed).isEqualTo(1);
+        assertThat(flushedCount).isEqualTo(3);
+        assertThat(updated.getViewCount()).isEqualTo(4);
+        assertThat(viewCountService.count(updated.getId())).isEqualTo(4);
+    }
+
+    @DisplayName("flush() 테스트 : 반영할 때 데이터베이스의 조회수를 다시 읽어 다른 노드가 반영한 조회수도 포함")
+    @Test
+    void flushRefreshesPersistedCount() {
+        //given
+        Article article = blogRepository.save(Article.builder()
+                .author("user")
+                .title("title")
+                .content("content")
+                .build());
+        viewCountService.increment(article.getId());
+        long before = viewCountService.count(article.getId());
+
+        //when : 다른 노드가 조회수 10을 반영한 뒤 이 노드도 반영
+        jdbcTemplate.update("UPDATE article SET view_count = view_count + 10 WHERE id = ?", article.getId());
+        viewCountService.increment(article.getId());
+        viewCountService.flush();
+
+        //then
+        assertThat(before).isEqualTo(1);
+        assertThat(viewCountService.count(article.getId())).isEqualTo(12);
+    }
+}
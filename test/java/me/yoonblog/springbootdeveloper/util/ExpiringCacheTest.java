@@ -0,0 +1,109 @@
+package me.yoonblog.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    @DisplayName("get() 테스트 : 캐시에 없으면 loader로 조회한 값을 저장하고 다음 조회부터는 캐시에서 반환")
+    @Test
+    void get_readThrough() {
+        //given
+        ExpiringCache<Long, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        //when
+        String first = cache.get(1L, key -> "value");
+        String second = cache.get(1L, key -> "other");
+
+        //then
+        assertThat(first).isEqualTo("value");
+        assertThat(second).isEqualTo("value");
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("put() 테스트 : 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+    @Test
+    void put_evictsLeastRecentlyUsed() {
+        //given
+        ExpiringCache<Long, String> cache = new ExpiringCache<>(2, Duration.ofMinutes(1));
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+
+        //when
+        cache.put(3L, "three");
+
+        //then
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isEqualTo("one");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("put() 테스트 : 이미 지난 만료 시각으로는 저장하지 않음")
+    @Test
+    void put_expired() {
+        //given
+        ExpiringCache<Long, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        //when
+        cache.put(1L, "value", Instant.now().minusSeconds(1));
+
+        //then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @DisplayName("invalidate() 테스트 : 무효화 전에 시작한 조회 결과는 캐시에 저장하지 않음")
+    @Test
+    void invalidate_duringLoad() {
+        //given
+        ExpiringCache<Long, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        //when : 조회 도중 같은 키가 무효화됨
+        String loaded = cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        //then : 조회한 값은 반환하지만 캐시에는 남지 않음
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @DisplayName("invalidate() 테스트 : 다른 키를 무효화해도 조회 결과는 캐시에 저장")
+    @Test
+    void invalidate_otherKeyDuringLoad() {
+        //given
+        ExpiringCache<Long, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        //when : 조회 도중 다른 키가 무효화됨(1과 2는 다른 구간)
+        cache.get(1L, key -> {
+            cache.invalidate(2L);
+            return "value";
+        });
+
+        //then
+        assertThat(cache.get(1L)).isEqualTo("value");
+    }
+
+    @DisplayName("invalidateAll() 테스트 : 전체 무효화 전에 시작한 조회 결과는 캐시에 저장하지 않음")
+    @Test
+    void invalidateAll_duringLoad() {
+        //given
+        ExpiringCache<Long, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1));
+
+        //when
+        cache.get(1L, key -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        //then
+        assertThat(cache.get(1L)).isNull();
+    }
+}
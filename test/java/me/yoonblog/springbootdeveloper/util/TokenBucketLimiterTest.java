@@ -0,0 +1,66 @@
+package me.yoonblog.springbootdeveloper.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @DisplayName("tryAcquire() 테스트 : capacity번까지 연속 허용하고 초과하면 다음 토큰까지 남은 시간을 반환")
+    @Test
+    void tryAcquire_burst() {
+        //given : 10초마다 5개 -> 2초마다 1개씩 채워짐
+        TokenBucketLimiter limiter = new TokenBucketLimiter(5, Duration.ofSeconds(10), 100);
+        long now = System.nanoTime();
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("ip:1", now)).isZero();
+        }
+        long wait = limiter.tryAcquire("ip:1", now);
+
+        //then
+        assertThat(wait).isEqualTo(2 * SECOND);
+        assertThat(limiter.tryAcquire("ip:2", now)).isZero(); //다른 키는 따로 계산
+    }
+
+    @DisplayName("tryAcquire() 테스트 : 시간이 지나면 지난 시간만큼 토큰이 다시 채워짐")
+    @Test
+    void tryAcquire_refill() {
+        //given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(5, Duration.ofSeconds(10), 100);
+        long now = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("ip:1", now);
+        }
+
+        //when : 4초 뒤 -> 2개 채워짐
+        long later = now + 4 * SECOND;
+
+        //then
+        assertThat(limiter.tryAcquire("ip:1", later)).isZero();
+        assertThat(limiter.tryAcquire("ip:1", later)).isZero();
+        assertThat(limiter.tryAcquire("ip:1", later)).isPositive();
+    }
+
+    @DisplayName("tryAcquire() 테스트 : refillPeriod가 지나 가득 찬 버킷은 정리")
+    @Test
+    void tryAcquire_sweepsIdleBuckets() {
+        //given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(5, Duration.ofSeconds(10), 100);
+        long now = System.nanoTime();
+        limiter.tryAcquire("ip:1", now);
+        limiter.tryAcquire("ip:2", now);
+
+        //when
+        limiter.tryAcquire("ip:3", now + 11 * SECOND);
+
+        //then
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}